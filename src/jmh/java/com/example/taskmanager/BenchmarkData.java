@@ -0,0 +1,65 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.model.entity.Project;
+import com.example.taskmanager.model.entity.Task;
+import com.example.taskmanager.model.entity.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Detached entities shaped like the ones the services hand to the mappers, with every field populated.
+public final class BenchmarkData {
+
+    private static final String[] STATUSES = {"TODO", "DOING", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private BenchmarkData() {
+    }
+
+    public static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+
+    public static Project project(long id, User owner) {
+        LocalDateTime now = LocalDateTime.now();
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        project.setDescription("Benchmark project " + id);
+        project.setOwner(owner);
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+        return project;
+    }
+
+    public static Task task(long id, Project project, User assignee) {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = new Task();
+        task.setId(id);
+        task.setProject(project);
+        task.setTitle("Task " + id);
+        task.setDescription("Description of benchmark task " + id + " with a few more words of text");
+        task.setStatus(STATUSES[(int) (id % STATUSES.length)]);
+        task.setPriority(PRIORITIES[(int) (id % PRIORITIES.length)]);
+        task.setAssignee(id % 4 == 0 ? null : assignee);
+        task.setDueDate(now.plusHours(id % 200 - 50));
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        task.refreshDerivedFlags(now);
+        return task;
+    }
+
+    public static List<Task> tasks(int count) {
+        User owner = user(1);
+        Project project = project(1, owner);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tasks.add(task(i, project, owner));
+        }
+        return tasks;
+    }
+}
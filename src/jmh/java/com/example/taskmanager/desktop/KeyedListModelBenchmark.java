@@ -0,0 +1,130 @@
+package com.example.taskmanager.desktop;
+
+import com.example.taskmanager.desktop.DesktopApiClient.TaskDto;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.swing.DefaultListModel;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Applies a board refresh to a column of tasks, alternating between two snapshots so every invocation does the
+// same amount of work. Each model backs a headless JList with an HTML renderer like the board's, and the list's
+// preferred size is read afterwards: that is the relayout the next paint would do. Without a prototype cell any
+// event makes the list UI measure every cell again; with one, as the board sets, only the events themselves cost.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class KeyedListModelBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    // unchanged: same tasks again; updated: one task edited in place; moved: one task bumped to the top, as an
+    // edit does in an updatedAt-ordered column; churn: ten tasks removed and ten new ones inserted.
+    @Param({"unchanged", "updated", "moved", "churn"})
+    private String change;
+
+    @Param({"true", "false"})
+    private boolean prototype;
+
+    private List<TaskDto> before;
+    private List<TaskDto> after;
+    private boolean flip;
+    private KeyedListModel<Long, TaskDto> keyedModel;
+    private DefaultListModel<TaskDto> defaultModel;
+    private JList<TaskDto> keyedList;
+    private JList<TaskDto> defaultList;
+
+    @Setup
+    public void setUp() {
+        before = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            before.add(task(id, "2026-01-01T00:00:00"));
+        }
+        after = new ArrayList<>(before);
+        switch (change) {
+            case "updated":
+                after.set(size / 2, task(after.get(size / 2).getId(), "2026-01-02T00:00:00"));
+                break;
+            case "moved":
+                after.add(0, after.remove(size / 2));
+                break;
+            case "churn":
+                for (int i = 0; i < 10; i++) {
+                    after.remove(size / 10 * i);
+                    after.add(size / 10 * i + 5, task(size + 1L + i, "2026-01-01T00:00:00"));
+                }
+                break;
+            default:
+                break;
+        }
+
+        keyedModel = new KeyedListModel<>(TaskDto::getId,
+                (a, b) -> Objects.equals(a.getUpdatedAt(), b.getUpdatedAt()));
+        keyedList = new JList<>(keyedModel);
+        configure(keyedList);
+        keyedModel.setAll(before);
+        keyedList.getPreferredSize();
+        defaultModel = new DefaultListModel<>();
+        defaultList = new JList<>(defaultModel);
+        configure(defaultList);
+        for (TaskDto task : before) {
+            defaultModel.addElement(task);
+        }
+        defaultList.getPreferredSize();
+    }
+
+    @Benchmark
+    public Dimension keyedSetAll() {
+        flip = !flip;
+        keyedModel.setAll(flip ? after : before);
+        return keyedList.getPreferredSize();
+    }
+
+    @Benchmark
+    public Dimension clearAndRefill() {
+        flip = !flip;
+        defaultModel.clear();
+        for (TaskDto task : flip ? after : before) {
+            defaultModel.addElement(task);
+        }
+        return defaultList.getPreferredSize();
+    }
+
+    private void configure(JList<TaskDto> list) {
+        JLabel label = new JLabel();
+        list.setCellRenderer((l, value, index, isSelected, cellHasFocus) -> {
+            label.setText("<html><b>" + value.getTitle() + "</b><br/>" + value.getStatus() + "</html>");
+            return label;
+        });
+        if (prototype) {
+            list.setPrototypeCellValue(task(0, "2026-01-01T00:00:00"));
+        }
+    }
+
+    private static TaskDto task(long id, String updatedAt) {
+        TaskDto task = new TaskDto();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus("TODO");
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+}
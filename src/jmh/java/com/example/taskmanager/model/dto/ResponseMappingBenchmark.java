@@ -0,0 +1,48 @@
+package com.example.taskmanager.model.dto;
+
+import com.example.taskmanager.BenchmarkData;
+import com.example.taskmanager.model.dto.project.ProjectResponse;
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import com.example.taskmanager.model.entity.Project;
+import com.example.taskmanager.model.entity.Task;
+import com.example.taskmanager.model.entity.User;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private Task task;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkData.user(1);
+        project = BenchmarkData.project(1, owner);
+        task = BenchmarkData.task(1, project, owner);
+    }
+
+    @Benchmark
+    public TaskResponse taskResponseFrom() {
+        return TaskResponse.from(task);
+    }
+
+    @Benchmark
+    public ProjectResponse projectResponseFrom() {
+        return ProjectResponse.from(project);
+    }
+}
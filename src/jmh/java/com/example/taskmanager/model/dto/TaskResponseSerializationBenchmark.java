@@ -0,0 +1,67 @@
+package com.example.taskmanager.model.dto;
+
+import com.example.taskmanager.BenchmarkData;
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Serializes into a discarding stream so the numbers cover Jackson itself rather than growing a byte array.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponseSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private List<TaskResponse> tasks;
+    private ObjectWriter writer;
+    private OutputStream out;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        tasks = BenchmarkData.tasks(size).stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList());
+        // Same defaults Spring Boot applies to the MVC converter: JavaTimeModule, ISO dates.
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+        out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                blackhole.consume(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blackhole.consume(b);
+            }
+        };
+    }
+
+    @Benchmark
+    public void serializeTaskList() throws IOException {
+        writer.writeValue(out, tasks);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanager.model.entity;
+
+import com.example.taskmanager.BenchmarkData;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Goes through refreshDerivedFlags, the public entry point to the updateDerivedFlags logic run on every write.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskDerivedFlagsBenchmark {
+
+    private Task withDueDate;
+    private Task withoutDueDate;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkData.user(1);
+        Project project = BenchmarkData.project(1, owner);
+        withDueDate = BenchmarkData.task(1, project, owner);
+        withoutDueDate = BenchmarkData.task(2, project, owner);
+        withoutDueDate.setDueDate(null);
+    }
+
+    @Benchmark
+    public boolean withDueDate() {
+        return withDueDate.refreshDerivedFlags(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public boolean withoutDueDate() {
+        return withoutDueDate.refreshDerivedFlags(LocalDateTime.now());
+    }
+}
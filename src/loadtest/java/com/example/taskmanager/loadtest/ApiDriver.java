@@ -0,0 +1,117 @@
+package com.example.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+// Thin REST client over the public API; every call acts as the given user through X-USER-ID.
+public class ApiDriver implements AutoCloseable {
+
+    private final String baseUrl;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    public ApiDriver(String baseUrl, int maxConnections) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClients.custom()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    public long register(String username, String password) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("username", username);
+        body.put("email", username + "@loadtest.local");
+        body.put("password", password);
+        return call(null, HttpMethod.POST, "/api/auth/register", body).get("id").asLong();
+    }
+
+    public long createProject(long userId, String name) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("name", name);
+        body.put("description", "Load test project");
+        return call(userId, HttpMethod.POST, "/api/projects", body).get("id").asLong();
+    }
+
+    public void addMember(long ownerId, long projectId, String username) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("usernameOrEmail", username);
+        call(ownerId, HttpMethod.POST, "/api/projects/" + projectId + "/members", body);
+    }
+
+    public List<Long> createTasks(long userId, long projectId, int count, int offset) {
+        List<Map<String, Object>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(taskBody("Seed task " + (offset + i)));
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("tasks", tasks);
+        List<Long> ids = new ArrayList<>(count);
+        for (JsonNode task : call(userId, HttpMethod.POST, "/api/projects/" + projectId + "/tasks:batch", body)) {
+            ids.add(task.get("id").asLong());
+        }
+        return ids;
+    }
+
+    public void listTasks(long userId, long projectId) {
+        call(userId, HttpMethod.GET, "/api/projects/" + projectId + "/tasks?limit=100", null);
+    }
+
+    public void board(long userId, long projectId) {
+        call(userId, HttpMethod.GET, "/api/projects/" + projectId + "/board", null);
+    }
+
+    public void listProjects(long userId) {
+        call(userId, HttpMethod.GET, "/api/projects", null);
+    }
+
+    public long createTask(long userId, long projectId, String title) {
+        return call(userId, HttpMethod.POST, "/api/projects/" + projectId + "/tasks", taskBody(title))
+                .get("id").asLong();
+    }
+
+    public void updateTask(long userId, long taskId, String status) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", status);
+        call(userId, HttpMethod.PATCH, "/api/tasks/" + taskId, body);
+    }
+
+    public void deleteTask(long userId, long taskId) {
+        call(userId, HttpMethod.DELETE, "/api/tasks/" + taskId, null);
+    }
+
+    private Map<String, Object> taskBody(String title) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("title", title);
+        body.put("description", "Generated by the load test harness");
+        body.put("priority", "MEDIUM");
+        return body;
+    }
+
+    private JsonNode call(Long userId, HttpMethod method, String path, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (userId != null) {
+            headers.add("X-USER-ID", String.valueOf(userId));
+        }
+        return restTemplate.exchange(baseUrl + path, method, new HttpEntity<>(body, headers), JsonNode.class)
+                .getBody();
+    }
+
+    @Override
+    public void close() throws Exception {
+        httpClient.close();
+    }
+}
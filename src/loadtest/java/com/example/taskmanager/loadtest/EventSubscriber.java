@@ -0,0 +1,67 @@
+package com.example.taskmanager.loadtest;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Recorder;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+// One STOMP session subscribed to the same topics the desktop client uses for a user. Lag is measured from
+// the server-side publishedAt stamp; client and server share a clock because they run in one JVM.
+public class EventSubscriber implements AutoCloseable {
+
+    private final WebSocketStompClient stompClient;
+    private final Recorder lagRecorder;
+    private final LongAdder received;
+    private StompSession session;
+
+    public EventSubscriber(Recorder lagRecorder, LongAdder received) {
+        this.lagRecorder = lagRecorder;
+        this.received = received;
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    public void connect(String wsUrl, long userId, Collection<Long> projectIds) throws Exception {
+        session = stompClient.connect(wsUrl, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+        session.subscribe("/topic/users/" + userId + "/projects", new LagHandler());
+        for (Long projectId : projectIds) {
+            session.subscribe("/topic/projects/" + projectId + "/tasks", new LagHandler());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+        stompClient.stop();
+    }
+
+    private class LagHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.currentTimeMillis();
+            received.increment();
+            Object publishedAt = ((Map<?, ?>) payload).get("publishedAt");
+            if (publishedAt instanceof Number) {
+                lagRecorder.recordValue(Math.max(0, now - ((Number) publishedAt).longValue()));
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.taskmanager.loadtest;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.loadtest.LoadTestConfig.Operation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Boots the application on a random port against a throwaway SQLite file, seeds it over HTTP, then drives a
+// weighted mix of REST calls from worker threads while STOMP subscribers measure event delivery lag.
+// Run with: mvn -P loadtest test-compile exec:exec -Dloadtest.args="--users=100 --duration=60"
+public class LoadTest {
+
+    private static final String PASSWORD = "loadtest";
+    private static final String[] STATUSES = {"TODO", "DOING", "DONE"};
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final LoadTestConfig config;
+    private final List<Long> userIds = new ArrayList<>();
+    private final Map<Long, List<Long>> projectsByUser = new HashMap<>();
+    private final Map<Long, TaskPool> tasksByProject = new HashMap<>();
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Recorder eventLag = new Recorder(TimeUnit.MINUTES.toMillis(10), 3);
+    private final LongAdder eventsReceived = new LongAdder();
+    private volatile boolean running = true;
+
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(TimeUnit.MINUTES.toMicros(1), 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("Load test: " + config);
+        new LoadTest(config).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        Path dbFile = Files.createTempFile("taskmanager-loadtest", ".db");
+        ConfigurableApplicationContext context = startApplication(dbFile);
+        List<EventSubscriber> subscribers = new ArrayList<>();
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            try (ApiDriver api = new ApiDriver("http://localhost:" + port, config.getThreads() * 2)) {
+                long seedStart = System.nanoTime();
+                seed(api);
+                System.out.printf("Seeded %d users, %d projects, %d tasks in %d ms%n", userIds.size(),
+                        tasksByProject.size(), config.getProjects() * (long) config.getTasksPerProject(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+                for (int i = 0; i < config.getSubscribers(); i++) {
+                    long userId = userIds.get(i % userIds.size());
+                    EventSubscriber subscriber = new EventSubscriber(eventLag, eventsReceived);
+                    subscriber.connect("ws://localhost:" + port + "/ws", userId, projectsByUser.get(userId));
+                    subscribers.add(subscriber);
+                }
+                System.out.printf("Connected %d STOMP subscribers%n", subscribers.size());
+
+                drive(api);
+            }
+        } finally {
+            for (EventSubscriber subscriber : subscribers) {
+                subscriber.close();
+            }
+            context.close();
+            for (String suffix : new String[] {"", "-wal", "-shm"}) {
+                Files.deleteIfExists(Paths.get(dbFile + suffix));
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(Path dbFile) {
+        List<String> args = new ArrayList<>();
+        addDefault(args, "server.port", "0");
+        addDefault(args, "spring.datasource.url", "jdbc:sqlite:" + dbFile);
+        addDefault(args, "logging.level.root", "WARN");
+        args.addAll(config.getAppArgs());
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                .headless(true)
+                .run(args.toArray(new String[0]));
+    }
+
+    // Command-line properties given twice are joined rather than overridden, so defaults yield to user values.
+    private void addDefault(List<String> args, String name, String value) {
+        for (String arg : config.getAppArgs()) {
+            if (arg.startsWith("--" + name + "=")) {
+                return;
+            }
+        }
+        args.add("--" + name + "=" + value);
+    }
+
+    // Project p is owned by user p % users; every other user joins one project, round-robin.
+    private void seed(ApiDriver api) {
+        List<String> usernames = new ArrayList<>();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.getUsers(); i++) {
+            String username = "load-" + runId + "-" + i;
+            usernames.add(username);
+            long userId = api.register(username, PASSWORD);
+            userIds.add(userId);
+            projectsByUser.put(userId, new ArrayList<>());
+        }
+        List<Long> projectIds = new ArrayList<>();
+        List<Long> ownerIds = new ArrayList<>();
+        for (int p = 0; p < config.getProjects(); p++) {
+            long ownerId = userIds.get(p % userIds.size());
+            long projectId = api.createProject(ownerId, "Load project " + p);
+            projectIds.add(projectId);
+            ownerIds.add(ownerId);
+            projectsByUser.get(ownerId).add(projectId);
+            tasksByProject.put(projectId, new TaskPool());
+        }
+        for (int u = 0; u < userIds.size(); u++) {
+            int p = u % projectIds.size();
+            long userId = userIds.get(u);
+            if (!projectsByUser.get(userId).contains(projectIds.get(p))) {
+                api.addMember(ownerIds.get(p), projectIds.get(p), usernames.get(u));
+                projectsByUser.get(userId).add(projectIds.get(p));
+            }
+        }
+        for (int p = 0; p < projectIds.size(); p++) {
+            TaskPool pool = tasksByProject.get(projectIds.get(p));
+            for (int offset = 0; offset < config.getTasksPerProject(); offset += SEED_BATCH_SIZE) {
+                int count = Math.min(SEED_BATCH_SIZE, config.getTasksPerProject() - offset);
+                pool.addAll(api.createTasks(ownerIds.get(p), projectIds.get(p), count, offset));
+            }
+        }
+    }
+
+    private void drive(ApiDriver api) throws InterruptedException {
+        Operation[] schedule = buildSchedule();
+        ExecutorService workers = Executors.newFixedThreadPool(config.getThreads());
+        for (int i = 0; i < config.getThreads(); i++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running) {
+                    execute(api, schedule[random.nextInt(schedule.length)], random);
+                }
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(config.getWarmupSeconds());
+        resetMeasurements();
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(config.getDurationSeconds());
+        Map<Operation, Histogram> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            results.put(operation, latencies.get(operation).getIntervalHistogram());
+        }
+        long errorCount = 0;
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            errorCounts.put(operation, errors.get(operation).sum());
+            errorCount += errorCounts.get(operation);
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        // Give in-flight events from the measured window time to arrive before reading the lag histogram.
+        TimeUnit.SECONDS.sleep(1);
+        long received = eventsReceived.sum();
+        Histogram lag = eventLag.getIntervalHistogram();
+
+        report(results, errorCounts, errorCount, elapsedSeconds, lag, received);
+    }
+
+    private Operation[] buildSchedule() {
+        List<Operation> schedule = new ArrayList<>();
+        for (Map.Entry<Operation, Integer> entry : config.getMix().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                schedule.add(entry.getKey());
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix is empty");
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+
+    private void execute(ApiDriver api, Operation operation, ThreadLocalRandom random) {
+        long userId = userIds.get(random.nextInt(userIds.size()));
+        List<Long> projects = projectsByUser.get(userId);
+        long projectId = projects.get(random.nextInt(projects.size()));
+        TaskPool pool = tasksByProject.get(projectId);
+        long start = System.nanoTime();
+        try {
+            switch (operation) {
+                case LIST_TASKS:
+                    api.listTasks(userId, projectId);
+                    break;
+                case BOARD:
+                    api.board(userId, projectId);
+                    break;
+                case LIST_PROJECTS:
+                    api.listProjects(userId);
+                    break;
+                case CREATE_TASK:
+                    pool.add(api.createTask(userId, projectId, "Load task"));
+                    break;
+                case UPDATE_TASK:
+                    Long updateId = pool.pick(random);
+                    if (updateId == null) {
+                        return;
+                    }
+                    api.updateTask(userId, updateId, STATUSES[random.nextInt(STATUSES.length)]);
+                    break;
+                case DELETE_TASK:
+                    Long deleteId = pool.take(random);
+                    if (deleteId == null) {
+                        return;
+                    }
+                    api.deleteTask(userId, deleteId);
+                    break;
+                default:
+                    throw new IllegalStateException("Unhandled operation " + operation);
+            }
+            latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            errors.get(operation).increment();
+        }
+    }
+
+    private void resetMeasurements() {
+        for (Operation operation : Operation.values()) {
+            latencies.get(operation).reset();
+            errors.get(operation).reset();
+        }
+        eventLag.reset();
+        eventsReceived.reset();
+    }
+
+    private void report(Map<Operation, Histogram> results, Map<Operation, Long> errorCounts, long errorCount,
+            double elapsedSeconds, Histogram lag, long received) {
+        Histogram total = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        System.out.println();
+        System.out.printf("%-10s %9s %7s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = results.get(operation);
+            if (histogram.getTotalCount() == 0 && errorCounts.get(operation) == 0) {
+                continue;
+            }
+            total.add(histogram);
+            printRow(operation.getKey(), histogram, errorCounts.get(operation), elapsedSeconds);
+        }
+        printRow("total", total, errorCount, elapsedSeconds);
+        System.out.println();
+        System.out.printf("events received: %d (%.1f/s), delivery lag ms p50=%d p99=%d p999=%d max=%d%n",
+                received, received / elapsedSeconds,
+                lag.getValueAtPercentile(50), lag.getValueAtPercentile(99),
+                lag.getValueAtPercentile(99.9), lag.getMaxValue());
+    }
+
+    private void printRow(String name, Histogram histogram, long errorCount, double elapsedSeconds) {
+        System.out.printf("%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errorCount, histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    // Task ids a project is known to hold; deletes take an id out first so two workers never delete the same task.
+    private static final class TaskPool {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        synchronized void add(long id) {
+            ids.add(id);
+        }
+
+        synchronized void addAll(List<Long> newIds) {
+            ids.addAll(newIds);
+        }
+
+        synchronized Long pick(ThreadLocalRandom random) {
+            return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+        }
+
+        synchronized Long take(ThreadLocalRandom random) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(ids.size());
+            Long id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+}
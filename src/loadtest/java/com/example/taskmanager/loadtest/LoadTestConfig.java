@@ -0,0 +1,154 @@
+package com.example.taskmanager.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Harness options are --name=value; any other argument is passed through to the application, so the
+// same run can be repeated with e.g. --taskmanager.write-queue.enabled=true.
+public class LoadTestConfig {
+
+    private int users = 50;
+    private int projects = 10;
+    private int tasksPerProject = 500;
+    private int subscribers = 50;
+    private int threads = 16;
+    private int warmupSeconds = 10;
+    private int durationSeconds = 30;
+    private final Map<Operation, Integer> mix = new LinkedHashMap<>();
+    private final List<String> appArgs = new ArrayList<>();
+
+    public LoadTestConfig() {
+        mix.put(Operation.LIST_TASKS, 30);
+        mix.put(Operation.BOARD, 20);
+        mix.put(Operation.LIST_PROJECTS, 10);
+        mix.put(Operation.CREATE_TASK, 15);
+        mix.put(Operation.UPDATE_TASK, 20);
+        mix.put(Operation.DELETE_TASK, 5);
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : "";
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (name) {
+                case "users":
+                    config.users = Integer.parseInt(value);
+                    break;
+                case "projects":
+                    config.projects = Integer.parseInt(value);
+                    break;
+                case "tasks-per-project":
+                    config.tasksPerProject = Integer.parseInt(value);
+                    break;
+                case "subscribers":
+                    config.subscribers = Integer.parseInt(value);
+                    break;
+                case "threads":
+                    config.threads = Integer.parseInt(value);
+                    break;
+                case "warmup":
+                    config.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "duration":
+                    config.durationSeconds = Integer.parseInt(value);
+                    break;
+                case "mix":
+                    config.parseMix(value);
+                    break;
+                default:
+                    config.appArgs.add(arg);
+            }
+        }
+        if (config.users < 1 || config.projects < 1 || config.threads < 1 || config.durationSeconds < 1) {
+            throw new IllegalArgumentException("users, projects, threads and duration must be positive");
+        }
+        return config;
+    }
+
+    // e.g. --mix=list:40,board:20,create:20,update:20
+    private void parseMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            mix.put(Operation.fromKey(kv[0].trim()), Integer.parseInt(kv[1].trim()));
+        }
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getProjects() {
+        return projects;
+    }
+
+    public int getTasksPerProject() {
+        return tasksPerProject;
+    }
+
+    public int getSubscribers() {
+        return subscribers;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public List<String> getAppArgs() {
+        return appArgs;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + " projects=" + projects + " tasksPerProject=" + tasksPerProject
+                + " subscribers=" + subscribers + " threads=" + threads + " warmup=" + warmupSeconds + "s"
+                + " duration=" + durationSeconds + "s mix=" + mix + " appArgs=" + appArgs;
+    }
+
+    public enum Operation {
+        LIST_TASKS("list"),
+        BOARD("board"),
+        LIST_PROJECTS("projects"),
+        CREATE_TASK("create"),
+        UPDATE_TASK("update"),
+        DELETE_TASK("delete");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        static Operation fromKey(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation in mix: " + key);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanager.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Builds the JCache regions for Hibernate's second-level and query caches from
+// taskmanager.hibernate-cache.regions.<region>.max-size / ttl-seconds. Hibernate is set to fail on a region that
+// is not listed here, so nothing ends up in an unbounded default cache.
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        Map<String, Region> regions = Binder.get(environment)
+                .bind("taskmanager.hibernate-cache.regions", Bindable.mapOf(String.class, Region.class))
+                .orElse(Collections.emptyMap());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("taskmanager-hibernate"), getClass().getClassLoader());
+        for (Map.Entry<String, Region> entry : regions.entrySet()) {
+            Region region = entry.getValue();
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            if (region.getTtlSeconds() > 0) {
+                configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.getTtlSeconds())));
+            }
+            cacheManager.createCache(entry.getKey(), configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    public static class Region {
+        private long maxSize = 10000;
+        private long ttlSeconds;
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.taskmanager.config;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// Counters are only collected with hibernate.generate_statistics enabled; "enabled" reports whether they are.
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private static final int TOP_QUERIES = 20;
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", statistics.isStatisticsEnabled());
+        body.put("since", Instant.ofEpochMilli(statistics.getStartTime()));
+        body.put("sessions", section(
+                "opened", statistics.getSessionOpenCount(),
+                "closed", statistics.getSessionCloseCount(),
+                "transactions", statistics.getTransactionCount(),
+                "successfulTransactions", statistics.getSuccessfulTransactionCount(),
+                "flushes", statistics.getFlushCount(),
+                "connectionsObtained", statistics.getConnectCount(),
+                "statementsPrepared", statistics.getPrepareStatementCount()));
+        body.put("entities", section(
+                "loaded", statistics.getEntityLoadCount(),
+                "fetched", statistics.getEntityFetchCount(),
+                "inserted", statistics.getEntityInsertCount(),
+                "updated", statistics.getEntityUpdateCount(),
+                "deleted", statistics.getEntityDeleteCount(),
+                "collectionsLoaded", statistics.getCollectionLoadCount(),
+                "collectionsFetched", statistics.getCollectionFetchCount(),
+                "optimisticFailures", statistics.getOptimisticFailureCount()));
+        body.put("queries", section(
+                "executed", statistics.getQueryExecutionCount(),
+                "maxTimeMillis", statistics.getQueryExecutionMaxTime(),
+                "slowest", statistics.getQueryExecutionMaxTimeQueryString()));
+        body.put("secondLevelCache", cacheSection(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        body.put("queryCache", cacheSection(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        body.put("topQueries", topQueries());
+        return body;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        statistics.clear();
+    }
+
+    private List<Map<String, Object>> topQueries() {
+        return Arrays.stream(statistics.getQueries())
+                .sorted(Comparator.comparingLong(
+                        (String query) -> statistics.getQueryStatistics(query).getExecutionTotalTime()).reversed())
+                .limit(TOP_QUERIES)
+                .map(query -> {
+                    QueryStatistics stats = statistics.getQueryStatistics(query);
+                    return section(
+                            "query", query,
+                            "executions", stats.getExecutionCount(),
+                            "rows", stats.getExecutionRowCount(),
+                            "totalTimeMillis", stats.getExecutionTotalTime(),
+                            "avgTimeMillis", stats.getExecutionAvgTime(),
+                            "maxTimeMillis", stats.getExecutionMaxTime());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> cacheSection(long hits, long misses, long puts) {
+        long lookups = hits + misses;
+        return section("hits", hits, "misses", misses, "puts", puts,
+                "hitRatio", lookups == 0 ? 0.0 : (double) hits / lookups);
+    }
+
+    private Map<String, Object> section(Object... keyValues) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            section.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return section;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+// Times every public service method and repository call. Repository calls also record how many rows they
+// returned (or, for modifying queries, affected), which is where a slow request usually hides its N+1s.
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.example.taskmanager.repository.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.taskmanager.service.TaskService.*(..))"
+            + " || execution(public * com.example.taskmanager.service.ProjectService.*(..))"
+            + " || execution(public * com.example.taskmanager.service.AuthService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder("service.method")
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) && execution(public * *(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint.getThis());
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder("repository.query")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+            long rows = ((MethodSignature) joinPoint.getSignature()).getReturnType() == void.class
+                    ? -1 : rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder("repository.rows")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+        }
+    }
+
+    // The proxy implements the application's repository interface; the join point only sees the
+    // Spring Data base class for inherited methods such as findById.
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getName().startsWith(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+
+    private long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        if (result instanceof Boolean || result instanceof Long) {
+            // exists/count style queries return a scalar rather than rows
+            return -1;
+        }
+        return 1;
+    }
+}
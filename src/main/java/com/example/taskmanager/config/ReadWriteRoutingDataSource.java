@@ -0,0 +1,15 @@
+package com.example.taskmanager.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String WRITER = "writer";
+    public static final String READER = "reader";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READER : WRITER;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RealtimeConfig {
+
+    // A single thread by default keeps per-project events in version order.
+    @Bean
+    public ThreadPoolTaskExecutor realtimeDispatchExecutor(
+            @Value("${taskmanager.realtime.dispatch.threads:1}") int threads,
+            @Value("${taskmanager.realtime.dispatch.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("realtime-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+}
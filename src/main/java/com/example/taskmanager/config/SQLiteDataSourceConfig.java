@@ -0,0 +1,96 @@
+package com.example.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "taskmanager.sqlite.enabled", havingValue = "true")
+public class SQLiteDataSourceConfig {
+
+    private final String url;
+    private final int cacheSizeKib;
+    private final long mmapSizeBytes;
+    private final int busyTimeoutMillis;
+
+    public SQLiteDataSourceConfig(@Value("${spring.datasource.url}") String url,
+            @Value("${taskmanager.sqlite.cache-size-kib:16384}") int cacheSizeKib,
+            @Value("${taskmanager.sqlite.mmap-size-bytes:268435456}") long mmapSizeBytes,
+            @Value("${taskmanager.sqlite.busy-timeout-millis:5000}") int busyTimeoutMillis) {
+        this.url = url;
+        this.cacheSizeKib = cacheSizeKib;
+        this.mmapSizeBytes = mmapSizeBytes;
+        this.busyTimeoutMillis = busyTimeoutMillis;
+    }
+
+    // SQLite allows a single writer, so the write pool holds exactly one connection and callers queue in Hikari.
+    @Bean
+    public HikariDataSource sqliteWriterDataSource() {
+        SQLiteConfig config = baseConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("sqlite-writer");
+        dataSource.setDataSource(sqliteDataSource(config));
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(1);
+        return dataSource;
+    }
+
+    // WAL readers never block behind the writer; journal_mode is left to the writer because it is persistent.
+    @Bean
+    public HikariDataSource sqliteReaderDataSource(
+            @Value("${taskmanager.sqlite.reader-pool-size:4}") int readerPoolSize) {
+        SQLiteConfig config = baseConfig();
+        config.setReadOnly(true);
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("sqlite-reader");
+        dataSource.setDataSource(sqliteDataSource(config));
+        dataSource.setMaximumPoolSize(readerPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // The lazy proxy defers the pool lookup to the first statement, after the transaction's read-only flag is bound.
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriterDataSource") DataSource writer,
+            @Qualifier("sqliteReaderDataSource") DataSource reader) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.WRITER, writer);
+        targets.put(ReadWriteRoutingDataSource.READER, reader);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(writer);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private SQLiteConfig baseConfig() {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        // A negative cache_size is interpreted by SQLite as KiB rather than pages.
+        config.setCacheSize(-cacheSizeKib);
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSizeBytes));
+        config.setBusyTimeout(busyTimeoutMillis);
+        return config;
+    }
+
+    private SQLiteDataSource sqliteDataSource(SQLiteConfig config) {
+        SQLiteDataSource dataSource = new SQLiteDataSource(config);
+        dataSource.setUrl(url);
+        return dataSource;
+    }
+}
@@ -4,10 +4,33 @@ import java.sql.Types;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.StandardSQLFunction;
+import org.hibernate.dialect.pagination.AbstractLimitHandler;
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.type.StandardBasicTypes;
 
 public class SQLiteDialect extends Dialect {
 
+    // Renders "limit ? offset ?"; the limit placeholder comes first, so the bound values are reversed.
+    private static final LimitHandler LIMIT_HANDLER = new AbstractLimitHandler() {
+
+        @Override
+        public boolean supportsLimit() {
+            return true;
+        }
+
+        @Override
+        public boolean bindLimitParametersInReverseOrder() {
+            return true;
+        }
+
+        @Override
+        public String processSql(String sql, RowSelection selection) {
+            return sql + (LimitHelper.hasFirstRow(selection) ? " limit ? offset ?" : " limit ?");
+        }
+    };
+
     public SQLiteDialect() {
         registerColumnType(Types.BIT, "integer");
         registerColumnType(Types.TINYINT, "tinyint");
@@ -38,26 +61,8 @@ public class SQLiteDialect extends Dialect {
     }
 
     @Override
-    public boolean supportsLimit() {
-        return true;
-    }
-
-    @Override
-    public boolean supportsLimitOffset() {
-        return true;
-    }
-
-    @Override
-    public String getLimitString(String query, int offset, int limit) {
-        if (offset > 0) {
-            return query + " limit " + limit + " offset " + offset;
-        }
-        return query + " limit " + limit;
-    }
-
-    @Override
-    protected String getLimitString(String query, boolean hasOffset) {
-        return query + (hasOffset ? " limit ? offset ?" : " limit ?");
+    public LimitHandler getLimitHandler() {
+        return LIMIT_HANDLER;
     }
 
     @Override
@@ -0,0 +1,186 @@
+package com.example.taskmanager.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Times statements on their way to the driver and hands the slow ones to SlowQueryLog. A query is timed from
+// execute until its ResultSet is closed, counting only the time spent inside the driver: sqlite-jdbc steps the
+// statement lazily, so most of a scan happens in ResultSet.next() rather than in executeQuery().
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[] {type},
+                handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            String name = method.getName();
+            if (result instanceof Statement && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                String sql = name.equals("createStatement") ? null : (String) args[0];
+                return wrap(method.getReturnType(), new StatementHandler((Statement) result, sql));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private int bindCount;
+        private int batchBindCount;
+        private int batchSize;
+        private String batchSql;
+        private ResultSetHandler openResultSet;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindCount = Math.max(bindCount, (Integer) args[0]);
+            } else if (name.equals("clearParameters")) {
+                bindCount = 0;
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+                batchBindCount += bindCount;
+                if (args != null && args.length == 1) {
+                    batchSql = (String) args[0];
+                }
+            } else if (name.equals("clearBatch")) {
+                resetBatch();
+            } else if (name.equals("close")) {
+                finishResultSet();
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finishResultSet();
+            boolean batch = method.getName().equals("executeBatch");
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String
+                    ? (String) args[0] : batch && batchSql != null ? batchSql : sql;
+            int binds = batch ? batchBindCount : bindCount;
+            int size = batch ? batchSize : 0;
+            if (batch) {
+                resetBatch();
+            }
+            long start = System.nanoTime();
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (result instanceof ResultSet) {
+                openResultSet = new ResultSetHandler((ResultSet) result, statementSql, binds, elapsed);
+                return wrap(ResultSet.class, openResultSet);
+            }
+            if (slowQueryLog.isSlow(elapsed)) {
+                slowQueryLog.record(statementSql, binds, size, elapsed);
+            }
+            return result;
+        }
+
+        private void resetBatch() {
+            batchSize = 0;
+            batchBindCount = 0;
+            batchSql = null;
+        }
+
+        // Closing the statement or re-executing it closes the ResultSet inside the driver, bypassing the proxy.
+        private void finishResultSet() {
+            if (openResultSet != null) {
+                openResultSet.finish();
+                openResultSet = null;
+            }
+        }
+    }
+
+    private class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final String sql;
+        private final int bindCount;
+        private long elapsed;
+        private boolean finished;
+
+        ResultSetHandler(ResultSet target, String sql, int bindCount, long elapsed) {
+            this.target = target;
+            this.sql = sql;
+            this.bindCount = bindCount;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("next")) {
+                long start = System.nanoTime();
+                try {
+                    return SlowQueryDataSource.invoke(target, method, args);
+                } finally {
+                    elapsed += System.nanoTime() - start;
+                }
+            }
+            if (name.equals("close")) {
+                finish();
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                if (slowQueryLog.isSlow(elapsed)) {
+                    slowQueryLog.record(sql, bindCount, 0, elapsed);
+                }
+            }
+        }
+    }
+}
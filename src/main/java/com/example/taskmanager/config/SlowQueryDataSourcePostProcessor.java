@@ -0,0 +1,26 @@
+package com.example.taskmanager.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// Wraps only the primary "dataSource" bean, so statements are timed once whether it is the SQLite routing
+// data source or Boot's auto-configured pool. The log is looked up lazily to keep it out of early bean creation.
+@Component
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if ("dataSource".equals(beanName) && bean instanceof DataSource && !(bean instanceof SlowQueryDataSource)) {
+            return new SlowQueryDataSource((DataSource) bean, slowQueryLog.getObject());
+        }
+        return bean;
+    }
+}
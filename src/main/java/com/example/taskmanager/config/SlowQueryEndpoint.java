@@ -0,0 +1,42 @@
+package com.example.taskmanager.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMillis", slowQueryLog.getThresholdMillis());
+        body.put("capacity", slowQueryLog.getCapacity());
+        body.put("queries", slowQueryLog.getEntries());
+        return body;
+    }
+
+    @WriteOperation
+    public Map<String, Object> setThreshold(long thresholdMillis) {
+        slowQueryLog.setThresholdMillis(thresholdMillis);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMillis", slowQueryLog.getThresholdMillis());
+        return body;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.taskmanager.config;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Keeps the most recent statements that took at least the threshold, oldest first. The threshold can be
+// changed at runtime through the slowqueries actuator endpoint; a negative value turns capturing off.
+@Component
+public class SlowQueryLog {
+
+    private static final String APPLICATION_PACKAGE = "com.example.taskmanager.";
+    private static final String SERVICE_PACKAGE = APPLICATION_PACKAGE + "service.";
+    private static final String CONFIG_PACKAGE = APPLICATION_PACKAGE + "config.";
+
+    private final int capacity;
+    private final ArrayDeque<Entry> entries;
+    private volatile long thresholdNanos;
+
+    public SlowQueryLog(@Value("${taskmanager.slow-query.capacity:200}") int capacity,
+            @Value("${taskmanager.slow-query.threshold-millis:100}") long thresholdMillis) {
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(capacity);
+        setThresholdMillis(thresholdMillis);
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        long threshold = thresholdNanos;
+        return threshold >= 0 && elapsedNanos >= threshold;
+    }
+
+    public void record(String sql, int bindCount, int batchSize, long elapsedNanos) {
+        Entry entry = new Entry(Instant.now(), sql, bindCount, batchSize,
+                TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0, callingMethod());
+        synchronized (entries) {
+            if (entries.size() == capacity) {
+                entries.removeFirst();
+            }
+            entries.addLast(entry);
+        }
+    }
+
+    public List<Entry> getEntries() {
+        synchronized (entries) {
+            return Collections.unmodifiableList(new ArrayList<>(entries));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getThresholdMillis() {
+        long threshold = thresholdNanos;
+        return threshold < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(threshold);
+    }
+
+    public void setThresholdMillis(long thresholdMillis) {
+        this.thresholdNanos = thresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    // Only walked for statements that crossed the threshold. Prefers the service method that issued the
+    // statement and falls back to any application frame (controller, scheduler) outside the JDBC plumbing.
+    private static String callingMethod() {
+        String fallback = null;
+        for (StackTraceElement frame : Thread.currentThread().getStackTrace()) {
+            String className = frame.getClassName();
+            if (!className.startsWith(APPLICATION_PACKAGE) || className.startsWith(CONFIG_PACKAGE)
+                    || className.contains("$$")) {
+                continue;
+            }
+            String method = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+            if (className.startsWith(SERVICE_PACKAGE)) {
+                return method;
+            }
+            if (fallback == null) {
+                fallback = method;
+            }
+        }
+        return fallback;
+    }
+
+    public static class Entry {
+        private final Instant timestamp;
+        private final String sql;
+        private final int bindCount;
+        private final int batchSize;
+        private final double durationMillis;
+        private final String caller;
+
+        Entry(Instant timestamp, String sql, int bindCount, int batchSize, double durationMillis, String caller) {
+            this.timestamp = timestamp;
+            this.sql = sql;
+            this.bindCount = bindCount;
+            this.batchSize = batchSize;
+            this.durationMillis = durationMillis;
+            this.caller = caller;
+        }
+
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getBindCount() {
+            return bindCount;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public double getDurationMillis() {
+            return durationMillis;
+        }
+
+        public String getCaller() {
+            return caller;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Streaming responses (task export) run on this pool. Boot's applicationTaskExecutor backs off because other
+// executors are defined, and the fallback starts a thread per request. Each stream holds a reader connection for
+// its whole duration, so the pool defaults to the reader pool size and further exports queue.
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    public WebAsyncConfig(@Qualifier("mvcAsyncExecutor") ThreadPoolTaskExecutor mvcAsyncExecutor) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+    }
+
+    @Bean
+    public static ThreadPoolTaskExecutor mvcAsyncExecutor(
+            @Value("${taskmanager.mvc-async.threads:4}") int threads,
+            @Value("${taskmanager.mvc-async.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+    }
+}
@@ -2,11 +2,13 @@ package com.example.taskmanager.controller;
 
 import com.example.taskmanager.exception.BadRequestException;
 import com.example.taskmanager.model.dto.project.AddMemberRequest;
+import com.example.taskmanager.model.dto.project.BoardResponse;
 import com.example.taskmanager.model.dto.project.CreateProjectRequest;
 import com.example.taskmanager.model.dto.project.ProjectMemberResponse;
 import com.example.taskmanager.model.dto.project.ProjectResponse;
 import com.example.taskmanager.model.entity.Project;
 import com.example.taskmanager.model.entity.ProjectMember;
+import com.example.taskmanager.model.entity.ProjectRevision;
 import com.example.taskmanager.service.ProjectService;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -44,8 +47,12 @@ public class ProjectController {
 
     @GetMapping
     public ResponseEntity<List<ProjectResponse>> listProjects(
-            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader) {
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            WebRequest webRequest) {
         Long currentUserId = parseUserId(userIdHeader);
+        if (webRequest.checkNotModified(etag("projects", projectService.getProjectListVersion(currentUserId)))) {
+            return null;
+        }
         List<ProjectResponse> responses = projectService.getProjectsForUser(currentUserId).stream()
                 .map(ProjectResponse::from)
                 .collect(Collectors.toList());
@@ -65,14 +72,33 @@ public class ProjectController {
     @GetMapping("/{projectId}/members")
     public ResponseEntity<List<ProjectMemberResponse>> listMembers(
             @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
-            @PathVariable Long projectId) {
+            @PathVariable Long projectId,
+            WebRequest webRequest) {
         Long currentUserId = parseUserId(userIdHeader);
+        ProjectRevision revisions = projectService.getRevisions(currentUserId, projectId);
+        if (webRequest.checkNotModified(etag("members", projectId, revisions.getMetadataRevision()))) {
+            return null;
+        }
         List<ProjectMemberResponse> responses = projectService.listMembers(currentUserId, projectId).stream()
                 .map(ProjectMemberResponse::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/{projectId}/board")
+    public ResponseEntity<BoardResponse> getBoard(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @PathVariable Long projectId,
+            WebRequest webRequest) {
+        Long currentUserId = parseUserId(userIdHeader);
+        ProjectRevision revisions = projectService.getRevisions(currentUserId, projectId);
+        if (webRequest.checkNotModified(etag("board", projectId, revisions.getRevision(),
+                revisions.getMetadataRevision()))) {
+            return null;
+        }
+        return ResponseEntity.ok(projectService.getBoard(currentUserId, projectId));
+    }
+
     @DeleteMapping("/{projectId}/members/{userId}")
     public ResponseEntity<Void> removeMember(
             @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
@@ -103,6 +129,17 @@ public class ProjectController {
         return ResponseEntity.ok(ProjectResponse.from(updated));
     }
 
+    // The version is read before the data, so a response is never labelled newer than what it contains. A
+    // checkNotModified hit has already written the 304 and returning null skips the query and serialization.
+    // The tag is weak: it versions the data, which is served as JSON or Smile, gzipped or not.
+    private String etag(String resource, Object... versions) {
+        StringBuilder etag = new StringBuilder("W/\"").append(resource);
+        for (Object version : versions) {
+            etag.append('-').append(version);
+        }
+        return etag.append('"').toString();
+    }
+
     private Long parseUserId(String userIdHeader) {
         if (userIdHeader == null || userIdHeader.trim().isEmpty()) {
             throw new BadRequestException("X-USER-ID header is required");
@@ -0,0 +1,60 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import com.example.taskmanager.service.SearchService;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/tasks")
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Long currentUserId = parseUserId(userIdHeader);
+        List<TaskResponse> responses = searchService.searchTasks(currentUserId, query, resolveLimit(limit)).stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private Long parseUserId(String headerValue) {
+        if (headerValue == null || headerValue.trim().isEmpty()) {
+            throw new BadRequestException("Missing or invalid X-USER-ID header");
+        }
+        try {
+            return Long.valueOf(headerValue.trim());
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Missing or invalid X-USER-ID header");
+        }
+    }
+}
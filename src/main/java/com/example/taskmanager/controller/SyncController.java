@@ -0,0 +1,42 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.model.dto.sync.SyncCursor;
+import com.example.taskmanager.model.dto.sync.SyncResponse;
+import com.example.taskmanager.service.SyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @RequestParam(value = "since", required = false) String since) {
+        Long currentUserId = parseUserId(userIdHeader);
+        return ResponseEntity.ok(syncService.changesSince(currentUserId, SyncCursor.decode(since)));
+    }
+
+    private Long parseUserId(String headerValue) {
+        if (headerValue == null || headerValue.trim().isEmpty()) {
+            throw new BadRequestException("Missing or invalid X-USER-ID header");
+        }
+        try {
+            return Long.valueOf(headerValue.trim());
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Missing or invalid X-USER-ID header");
+        }
+    }
+}
@@ -1,17 +1,37 @@
 package com.example.taskmanager.controller;
 
 import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.model.dto.task.BatchCreateTasksRequest;
+import com.example.taskmanager.model.dto.task.BatchDeleteTasksRequest;
+import com.example.taskmanager.model.dto.task.BatchTaskUpdate;
+import com.example.taskmanager.model.dto.task.BatchUpdateTasksRequest;
 import com.example.taskmanager.model.dto.task.CreateTaskRequest;
+import com.example.taskmanager.model.dto.task.TaskCursor;
+import com.example.taskmanager.model.dto.task.TaskDraft;
+import com.example.taskmanager.model.dto.task.TaskFilter;
+import com.example.taskmanager.model.dto.task.TaskImportResult;
+import com.example.taskmanager.model.dto.task.TaskPage;
 import com.example.taskmanager.model.dto.task.TaskResponse;
 import com.example.taskmanager.model.dto.task.UpdateTaskRequest;
 import com.example.taskmanager.model.entity.Task;
+import com.example.taskmanager.service.TaskImportService;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.WriteQueue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,15 +43,30 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api")
 public class TaskController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String PROJECT_REVISION_HEADER = "X-Project-Revision";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final WriteQueue writeQueue;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskImportService taskImportService, WriteQueue writeQueue,
+            ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.taskImportService = taskImportService;
+        this.writeQueue = writeQueue;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/projects/{projectId}/tasks")
@@ -42,7 +77,7 @@ public class TaskController {
         Long currentUserId = parseUserId(userIdHeader);
         LocalDateTime dueDate = parseDueDate(request.getDueDate());
 
-        Task task = taskService.createTask(
+        TaskResponse response = writeQueue.execute(() -> TaskResponse.from(taskService.createTask(
                 currentUserId,
                 projectId,
                 request.getTitle(),
@@ -51,9 +86,9 @@ public class TaskController {
                 request.getPriority(),
                 request.getAssigneeId(),
                 dueDate
-        );
+        )));
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.from(task));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/projects/{projectId}/tasks")
@@ -61,13 +96,87 @@ public class TaskController {
             @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
             @PathVariable Long projectId,
             @RequestParam(value = "status", required = false) String status,
-            @RequestParam(value = "assigneeId", required = false) Long assigneeId) {
+            @RequestParam(value = "assigneeId", required = false) Long assigneeId,
+            @RequestParam(value = "priority", required = false) String priority,
+            @RequestParam(value = "dueFrom", required = false) String dueFrom,
+            @RequestParam(value = "dueTo", required = false) String dueTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest) {
         Long currentUserId = parseUserId(userIdHeader);
-        List<TaskResponse> responses = taskService.getTasksForProject(currentUserId, projectId, status, assigneeId)
-                .stream()
+        // Read before the page so the ETag is never newer than the data; a hit skips the query entirely.
+        long revision = taskService.getTaskListRevision(currentUserId, projectId);
+        if (webRequest.checkNotModified("W/\"tasks-" + projectId + "-" + revision + "\"")) {
+            return null;
+        }
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(emptyToNull(status));
+        filter.setAssigneeId(assigneeId);
+        filter.setPriority(emptyToNull(priority));
+        filter.setDueFrom(parseDueDate(dueFrom));
+        filter.setDueTo(parseDueDate(dueTo));
+
+        TaskPage page = taskService.getTasksForProject(currentUserId, projectId, filter, TaskCursor.decode(cursor),
+                resolveLimit(limit));
+        List<TaskResponse> responses = page.getTasks().stream()
                 .map(TaskResponse::from)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(PROJECT_REVISION_HEADER, String.valueOf(page.getRevision()));
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor().encode());
+        }
+        return builder.body(responses);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @PathVariable Long projectId,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        Long currentUserId = parseUserId(userIdHeader);
+        boolean csv = "csv".equalsIgnoreCase(format.trim());
+        if (!csv && !"ndjson".equalsIgnoreCase(format.trim())) {
+            throw new BadRequestException("Invalid format. Allowed values: ndjson, csv");
+        }
+        // Check access before the body starts; once rows are streaming an error can no longer change the status.
+        taskService.getTaskListRevision(currentUserId, projectId);
+
+        StreamingResponseBody body = out -> {
+            TaskExportWriter writer = csv ? TaskExportWriter.csv(out) : TaskExportWriter.ndjson(objectMapper, out);
+            taskService.exportTasks(currentUserId, projectId, task -> {
+                try {
+                    writer.write(task);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + projectId + "-tasks." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    // The body is read incrementally and committed in chunks; see TaskImportService.
+    @PostMapping(value = "/projects/{projectId}/tasks/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<TaskImportResult> importTasks(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @PathVariable Long projectId,
+            HttpServletRequest request) throws IOException {
+        Long currentUserId = parseUserId(userIdHeader);
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+
+        TaskImportResult result = taskImportService.importTasks(currentUserId, projectId, csv,
+                new InputStreamReader(request.getInputStream(), charset));
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/tasks/{taskId}")
@@ -87,7 +196,7 @@ public class TaskController {
         Long currentUserId = parseUserId(userIdHeader);
         LocalDateTime dueDate = parseDueDate(request.getDueDate());
 
-        Task updated = taskService.updateTask(
+        TaskResponse response = writeQueue.execute(() -> TaskResponse.from(taskService.updateTask(
                 currentUserId,
                 taskId,
                 request.getTitle(),
@@ -96,9 +205,9 @@ public class TaskController {
                 request.getPriority(),
                 request.getAssigneeId(),
                 dueDate
-        );
+        )));
 
-        return ResponseEntity.ok(TaskResponse.from(updated));
+        return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/tasks/{taskId}")
@@ -106,10 +215,85 @@ public class TaskController {
             @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
             @PathVariable Long taskId) {
         Long currentUserId = parseUserId(userIdHeader);
-        taskService.deleteTask(currentUserId, taskId);
+        writeQueue.execute(() -> {
+            taskService.deleteTask(currentUserId, taskId);
+            return null;
+        });
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/projects/{projectId}/tasks:batch")
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @PathVariable Long projectId,
+            @Valid @RequestBody BatchCreateTasksRequest request) {
+        Long currentUserId = parseUserId(userIdHeader);
+        List<TaskDraft> drafts = request.getTasks().stream()
+                .map(this::toDraft)
+                .collect(Collectors.toList());
+
+        List<TaskResponse> responses = writeQueue.execute(() -> toResponses(
+                taskService.createTasks(currentUserId, projectId, drafts)));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
+    @PatchMapping("/tasks:batch")
+    public ResponseEntity<List<TaskResponse>> updateTasks(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @Valid @RequestBody BatchUpdateTasksRequest request) {
+        Long currentUserId = parseUserId(userIdHeader);
+        List<TaskDraft> drafts = request.getUpdates().stream()
+                .map(this::toDraft)
+                .collect(Collectors.toList());
+
+        List<TaskResponse> responses = writeQueue.execute(() -> toResponses(
+                taskService.updateTasks(currentUserId, drafts)));
+
+        return ResponseEntity.ok(responses);
+    }
+
+    @PostMapping("/tasks:batchDelete")
+    public ResponseEntity<Void> deleteTasks(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @Valid @RequestBody BatchDeleteTasksRequest request) {
+        Long currentUserId = parseUserId(userIdHeader);
+        writeQueue.execute(() -> {
+            taskService.deleteTasks(currentUserId, request.getIds());
+            return null;
+        });
         return ResponseEntity.noContent().build();
     }
 
+    private TaskDraft toDraft(CreateTaskRequest request) {
+        TaskDraft draft = new TaskDraft();
+        draft.setTitle(request.getTitle());
+        draft.setDescription(request.getDescription());
+        draft.setStatus(request.getStatus());
+        draft.setPriority(request.getPriority());
+        draft.setAssigneeId(request.getAssigneeId());
+        draft.setDueDate(parseDueDate(request.getDueDate()));
+        return draft;
+    }
+
+    private TaskDraft toDraft(BatchTaskUpdate update) {
+        TaskDraft draft = new TaskDraft();
+        draft.setId(update.getId());
+        draft.setTitle(update.getTitle());
+        draft.setDescription(update.getDescription());
+        draft.setStatus(update.getStatus());
+        draft.setPriority(update.getPriority());
+        draft.setAssigneeId(update.getAssigneeId());
+        draft.setDueDate(parseDueDate(update.getDueDate()));
+        return draft;
+    }
+
+    private List<TaskResponse> toResponses(List<Task> tasks) {
+        return tasks.stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList());
+    }
+
     private Long parseUserId(String headerValue) {
         if (headerValue == null || headerValue.trim().isEmpty()) {
             throw new BadRequestException("Missing or invalid X-USER-ID header");
@@ -121,7 +305,21 @@ public class TaskController {
         }
     }
 
-    private LocalDateTime parseDueDate(String dueDate) {
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    static LocalDateTime parseDueDate(String dueDate) {
         if (dueDate == null || dueDate.trim().isEmpty()) {
             return null;
         }
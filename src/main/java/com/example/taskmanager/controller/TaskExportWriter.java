@@ -0,0 +1,139 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Writes tasks one at a time to the response stream. Neither format flushes per row; the servlet buffer decides
+// when a chunk goes out. finish() flushes but leaves the stream open for the container to close.
+abstract class TaskExportWriter {
+
+    static TaskExportWriter ndjson(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        return new Ndjson(objectMapper, out);
+    }
+
+    static TaskExportWriter csv(OutputStream out) {
+        return new Csv(out);
+    }
+
+    abstract void write(TaskResponse task) throws IOException;
+
+    abstract void finish() throws IOException;
+
+    private static final class Ndjson extends TaskExportWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        Ndjson(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writerFor(TaskResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void write(TaskResponse task) throws IOException {
+            writer.writeValue(generator, task);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class Csv extends TaskExportWriter {
+
+        private static final String HEADER = "id,projectId,title,description,status,priority,assigneeId,"
+                + "assigneeUsername,dueDate,dueSoon,overdue,createdAt,updatedAt";
+
+        private final Writer writer;
+        private boolean headerWritten;
+
+        Csv(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        void write(TaskResponse task) throws IOException {
+            writeHeaderOnce();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(task.getProjectId()));
+            writer.write(',');
+            writeField(task.getTitle());
+            writer.write(',');
+            writeField(task.getDescription());
+            writer.write(',');
+            writeField(task.getStatus());
+            writer.write(',');
+            writeField(task.getPriority());
+            writer.write(',');
+            writeField(task.getAssigneeId());
+            writer.write(',');
+            writeField(task.getAssigneeUsername());
+            writer.write(',');
+            writeField(task.getDueDate());
+            writer.write(',');
+            writeField(task.getDueSoon());
+            writer.write(',');
+            writeField(task.getOverdue());
+            writer.write(',');
+            writeField(task.getCreatedAt());
+            writer.write(',');
+            writeField(task.getUpdatedAt());
+            writer.write("\r\n");
+        }
+
+        @Override
+        void finish() throws IOException {
+            writeHeaderOnce();
+            writer.flush();
+        }
+
+        private void writeHeaderOnce() throws IOException {
+            if (!headerWritten) {
+                writer.write(HEADER);
+                writer.write("\r\n");
+                headerWritten = true;
+            }
+        }
+
+        // RFC 4180: quote only when needed and double embedded quotes; null becomes an empty field.
+        // Dates use the same ISO pattern as the JSON, so seconds are kept even when zero.
+        private void writeField(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value instanceof LocalDateTime
+                    ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) value)
+                    : value.toString();
+            boolean quote = false;
+            for (int i = 0; i < text.length() && !quote; i++) {
+                char c = text.charAt(i);
+                quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quote) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -1,36 +1,51 @@
 package com.example.taskmanager.controller;
 
 import com.example.taskmanager.exception.BadRequestException;
-import com.example.taskmanager.model.entity.User;
-import com.example.taskmanager.repository.UserRepository;
+import com.example.taskmanager.service.UserDirectory;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
-    private final UserRepository userRepository;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
 
-    public UserController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    private final UserDirectory userDirectory;
+
+    public UserController(UserDirectory userDirectory) {
+        this.userDirectory = userDirectory;
     }
 
-    @GetMapping
-    public ResponseEntity<List<UserResponse>> listUsers(
-            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader) {
+    @GetMapping("/search")
+    public ResponseEntity<List<UserResponse>> searchUsers(
+            @RequestHeader(value = "X-USER-ID", required = false) String userIdHeader,
+            @RequestParam(value = "prefix", required = false) String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit) {
         parseUserId(userIdHeader);
-        List<UserResponse> users = userRepository.findAll().stream()
+        List<UserResponse> users = userDirectory.search(prefix, resolveLimit(limit)).stream()
                 .map(UserResponse::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(users);
     }
 
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
     private Long parseUserId(String header) {
         if (header == null || header.trim().isEmpty()) {
             throw new BadRequestException("X-USER-ID header is required");
@@ -47,7 +62,7 @@ public class UserController {
         private String username;
         private String email;
 
-        public static UserResponse from(User user) {
+        public static UserResponse from(UserDirectory.Entry user) {
             UserResponse resp = new UserResponse();
             resp.setId(user.getId());
             resp.setUsername(user.getUsername());
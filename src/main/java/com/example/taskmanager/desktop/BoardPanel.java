@@ -10,6 +10,7 @@ import javax.swing.JSplitPane;
 public class BoardPanel extends JPanel {
 
     private final DesktopApiClient apiClient;
+    private final RealtimeUpdateClient realtimeClient;
     private final ProjectsListPanel projectsPanel;
     private final TasksListPanel tasksPanel;
     private final Runnable logoutAction;
@@ -17,6 +18,7 @@ public class BoardPanel extends JPanel {
 
     public BoardPanel(DesktopApiClient apiClient, RealtimeUpdateClient realtimeUpdateClient, Runnable logoutAction) {
         this.apiClient = apiClient;
+        this.realtimeClient = realtimeUpdateClient;
         this.logoutAction = logoutAction;
         this.projectsPanel = new ProjectsListPanel(apiClient, realtimeUpdateClient);
         this.tasksPanel = new TasksListPanel(apiClient, realtimeUpdateClient);
@@ -30,6 +32,7 @@ public class BoardPanel extends JPanel {
 
         projectsPanel.setProjectSelectionListener(project -> tasksPanel.setCurrentProject(project));
         projectsPanel.setProjectClearedListener(tasksPanel::clearCurrentProject);
+        tasksPanel.setMembersListener(projectsPanel::showMembers);
     }
 
     private JPanel buildHeader() {
@@ -49,6 +52,9 @@ public class BoardPanel extends JPanel {
     public void onShow() {
         DesktopApiClient.AuthResponse user = apiClient.getCurrentUser();
         userLabel.setText(user != null ? user.getUsername() + " (" + user.getEmail() + ")" : "");
+        if (realtimeClient != null) {
+            realtimeClient.subscribeToUser(user != null ? user.getId() : null);
+        }
         projectsPanel.reloadProjects();
         tasksPanel.setCurrentProject(null);
     }
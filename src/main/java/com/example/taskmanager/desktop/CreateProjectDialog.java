@@ -23,7 +23,6 @@ import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
-import javax.swing.JComboBox;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SwingWorker;
@@ -35,7 +34,7 @@ public class CreateProjectDialog extends JDialog {
     private final JTextArea descriptionField = new JTextArea(4, 30);
     private final DefaultListModel<MemberDto> membersModel = new DefaultListModel<>();
     private final JList<MemberDto> membersList = new JList<>(membersModel);
-    private final JComboBox<UserDto> addCombo = new JComboBox<>();
+    private final UserSearchField userSearch;
     private final JButton addBtn = new JButton("Add");
     private final JButton removeBtn = new JButton("Remove");
     private final JLabel statusLabel = new JLabel(" ");
@@ -44,6 +43,7 @@ public class CreateProjectDialog extends JDialog {
     public CreateProjectDialog(DesktopApiClient apiClient, Window owner) {
         super(owner, "Create Project", ModalityType.APPLICATION_MODAL);
         this.apiClient = apiClient;
+        this.userSearch = new UserSearchField(apiClient);
         setLayout(new BorderLayout(8, 8));
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
         setPreferredSize(new Dimension(520, 520));
@@ -53,7 +53,7 @@ public class CreateProjectDialog extends JDialog {
         setMinimumSize(new Dimension(520, 520));
         pack();
         setLocationRelativeTo(owner);
-        loadUsers();
+        addOwnerMember();
     }
 
     private void buildUi() {
@@ -89,20 +89,6 @@ public class CreateProjectDialog extends JDialog {
         JPanel membersPanel = new JPanel(new BorderLayout(4, 4));
         membersPanel.setBorder(BorderFactory.createTitledBorder("Members"));
 
-        addCombo.setRenderer((list, value, index, isSelected, cellHasFocus) -> {
-            JLabel label = new JLabel();
-            if (value != null) {
-                label.setText(value.getUsername() + (value.getEmail() != null ? " (" + value.getEmail() + ")" : ""));
-            }
-            if (isSelected) {
-                label.setOpaque(true);
-                label.setBackground(list.getSelectionBackground());
-                label.setForeground(list.getSelectionForeground());
-            }
-            label.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
-            return label;
-        });
-
         membersList.setCellRenderer((list, value, index, isSelected, cellHasFocus) -> {
             JLabel label = new JLabel();
             if (value != null) {
@@ -119,7 +105,7 @@ public class CreateProjectDialog extends JDialog {
         membersList.setSelectionMode(javax.swing.ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
 
         JPanel addRow = new JPanel(new BorderLayout(4, 4));
-        addRow.add(addCombo, BorderLayout.CENTER);
+        addRow.add(userSearch, BorderLayout.CENTER);
         JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 4, 0));
         buttons.add(addBtn);
         buttons.add(removeBtn);
@@ -156,44 +142,20 @@ public class CreateProjectDialog extends JDialog {
         add(statusLabel, BorderLayout.SOUTH);
     }
 
-    private void loadUsers() {
-        new SwingWorker<List<UserDto>, Void>() {
-            @Override
-            protected List<UserDto> doInBackground() {
-                return apiClient.listAllUsers();
-            }
-
-            @Override
-            protected void done() {
-                try {
-                    List<UserDto> users = get();
-                    addCombo.removeAllItems();
-                    for (UserDto u : users) {
-                        addCombo.addItem(u);
-                    }
-                     // Preselect owner in members list
-                    DesktopApiClient.AuthResponse current = apiClient.getCurrentUser();
-                    if (current != null) {
-                        boolean exists = false;
-                        for (int i = 0; i < membersModel.size(); i++) {
-                            if (current.getId() != null && current.getId().equals(membersModel.get(i).getUserId())) {
-                                exists = true;
-                                break;
-                            }
-                        }
-                        if (!exists) {
-                            MemberDto ownerMember = new MemberDto();
-                            ownerMember.setUserId(current.getId());
-                            ownerMember.setUsername(current.getUsername());
-                            membersModel.addElement(ownerMember);
-                        }
-                    }
-                    statusLabel.setText("Users loaded");
-                } catch (Exception ex) {
-                    statusLabel.setText("Failed to load users: " + describeError(ex));
-                }
+    private void addOwnerMember() {
+        DesktopApiClient.AuthResponse current = apiClient.getCurrentUser();
+        if (current == null) {
+            return;
+        }
+        for (int i = 0; i < membersModel.size(); i++) {
+            if (current.getId() != null && current.getId().equals(membersModel.get(i).getUserId())) {
+                return;
             }
-        }.execute();
+        }
+        MemberDto ownerMember = new MemberDto();
+        ownerMember.setUserId(current.getId());
+        ownerMember.setUsername(current.getUsername());
+        membersModel.addElement(ownerMember);
     }
 
     private void submit(JButton createBtn) {
@@ -249,8 +211,9 @@ public class CreateProjectDialog extends JDialog {
     }
 
     private void addSelectedUser() {
-        UserDto selected = (UserDto) addCombo.getSelectedItem();
+        UserDto selected = userSearch.getSelectedUser();
         if (selected == null) {
+            statusLabel.setText("Select a user to add");
             return;
         }
         // avoid duplicates
@@ -263,6 +226,7 @@ public class CreateProjectDialog extends JDialog {
         member.setUserId(selected.getId());
         member.setUsername(selected.getUsername());
         membersModel.addElement(member);
+        userSearch.clear();
     }
 
     private void removeSelectedMembers() {
@@ -36,6 +36,7 @@ public class CreateTaskDialog extends JDialog {
     private final DesktopApiClient apiClient;
     private final Long projectId;
     private final String projectName;
+    private final List<DesktopApiClient.MemberDto> members;
     private final JTextField titleField = new JTextField();
     private final JTextArea descriptionField = new JTextArea(4, 30);
     private final JComboBox<String> statusField = new JComboBox<>(new String[] { "TODO", "DOING", "DONE" });
@@ -47,11 +48,13 @@ public class CreateTaskDialog extends JDialog {
     private final JLabel statusLabel = new JLabel(" ");
     private Consumer<TaskDto> onSuccess;
 
-    public CreateTaskDialog(DesktopApiClient apiClient, Window owner, Long projectId, String projectName) {
+    public CreateTaskDialog(DesktopApiClient apiClient, Window owner, Long projectId, String projectName,
+            List<DesktopApiClient.MemberDto> members) {
         super(owner, "Create Task for " + projectName, ModalityType.APPLICATION_MODAL);
         this.apiClient = apiClient;
         this.projectId = projectId;
         this.projectName = projectName;
+        this.members = members;
         setLayout(new BorderLayout(8, 8));
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
         setPreferredSize(new Dimension(520, 520));
@@ -154,6 +157,11 @@ public class CreateTaskDialog extends JDialog {
     private void loadMembers() {
         assigneeField.removeAllItems();
         assigneeField.setEnabled(false);
+        // Members come with the board snapshot; only fetch when the dialog is opened without one.
+        if (members != null) {
+            showMembers(members);
+            return;
+        }
         new SwingWorker<List<DesktopApiClient.MemberDto>, Void>() {
             @Override
             protected List<DesktopApiClient.MemberDto> doInBackground() {
@@ -163,16 +171,7 @@ public class CreateTaskDialog extends JDialog {
             @Override
             protected void done() {
                 try {
-                    List<DesktopApiClient.MemberDto> members = get();
-                    assigneeField.addItem(null); // unassigned
-                    for (DesktopApiClient.MemberDto m : members) {
-                        UserDto user = new UserDto();
-                        user.setId(m.getUserId());
-                        user.setUsername(m.getUsername());
-                        assigneeField.addItem(user);
-                    }
-                    assigneeField.setEnabled(true);
-                    statusLabel.setText("Members loaded for " + projectName);
+                    showMembers(get());
                 } catch (Exception ex) {
                     statusLabel.setText("Load members failed: " + describeError(ex));
                     assigneeField.setEnabled(false);
@@ -181,6 +180,18 @@ public class CreateTaskDialog extends JDialog {
         }.execute();
     }
 
+    private void showMembers(List<DesktopApiClient.MemberDto> members) {
+        assigneeField.addItem(null); // unassigned
+        for (DesktopApiClient.MemberDto m : members) {
+            UserDto user = new UserDto();
+            user.setId(m.getUserId());
+            user.setUsername(m.getUsername());
+            assigneeField.addItem(user);
+        }
+        assigneeField.setEnabled(true);
+        statusLabel.setText("Members loaded for " + projectName);
+    }
+
     private void submit(JButton createBtn) {
         String title = titleField.getText().trim();
         if (title.isEmpty()) {
@@ -2,28 +2,53 @@ package com.example.taskmanager.desktop;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 public class DesktopApiClient {
 
+    private static final int TASK_PAGE_SIZE = 500;
+    private static final int CONDITIONAL_CACHE_SIZE = 64;
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     private final RestTemplate restTemplate;
     private final String baseUrl;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+    // Last response per URL for the versioned list endpoints, revalidated with If-None-Match. Least recently
+    // used entries are dropped; stale keyset-cursor URLs would otherwise pile up.
+    private final Map<String, ResponseEntity<?>> conditionalCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, ResponseEntity<?>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ResponseEntity<?>> eldest) {
+                    return size() > CONDITIONAL_CACHE_SIZE;
+                }
+            });
     private AuthResponse currentUser;
 
     public DesktopApiClient(String baseUrl) {
         this.baseUrl = baseUrl;
         this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+        // Ask for Smile ahead of JSON: the board is read far more often than anything is written, and the binary
+        // form is smaller and faster to parse. Request bodies still go out as JSON (see exchangeEntityWithAuth).
+        restTemplate.getMessageConverters().removeIf(c -> c instanceof MappingJackson2SmileHttpMessageConverter);
+        restTemplate.getMessageConverters().add(0, new MappingJackson2SmileHttpMessageConverter(smileMapper));
     }
 
     public AuthResponse register(String username, String email, String password) {
@@ -39,7 +64,7 @@ public class DesktopApiClient {
         request.setUsernameOrEmail(usernameOrEmail);
         request.setPassword(password);
         AuthResponse response = post("/api/auth/login", request, AuthResponse.class);
-        this.currentUser = response;
+        setCurrentUser(response);
         return response;
     }
 
@@ -49,11 +74,11 @@ public class DesktopApiClient {
 
     public void setCurrentUser(AuthResponse currentUser) {
         this.currentUser = currentUser;
+        conditionalCache.clear();
     }
 
     public List<ProjectDto> listProjects() {
-        return exchangeWithAuth("/api/projects", HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<ProjectDto>>() {});
+        return getConditional("/api/projects", new ParameterizedTypeReference<List<ProjectDto>>() {}).getBody();
     }
 
     public ProjectDto createProject(String name, String description) {
@@ -65,8 +90,32 @@ public class DesktopApiClient {
     }
 
     public List<TaskDto> listTasks(Long projectId) {
-        return exchangeWithAuth("/api/projects/" + projectId + "/tasks", HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<TaskDto>>() {});
+        return listTaskSnapshot(projectId).getTasks();
+    }
+
+    public TaskListSnapshot listTaskSnapshot(Long projectId) {
+        List<TaskDto> tasks = new ArrayList<>();
+        Long revision = null;
+        String cursor = null;
+        do {
+            String path = "/api/projects/" + projectId + "/tasks?limit=" + TASK_PAGE_SIZE
+                    + (cursor != null ? "&cursor=" + cursor : "");
+            ResponseEntity<List<TaskDto>> response = getConditional(path,
+                    new ParameterizedTypeReference<List<TaskDto>>() {});
+            if (response.getBody() != null) {
+                tasks.addAll(response.getBody());
+            }
+            if (revision == null) {
+                revision = parseLongHeader(response.getHeaders().getFirst("X-Project-Revision"));
+            }
+            cursor = response.getHeaders().getFirst("X-Next-Cursor");
+        } while (cursor != null);
+        return new TaskListSnapshot(tasks, revision);
+    }
+
+    public BoardDto getBoard(Long projectId) {
+        return getConditional("/api/projects/" + projectId + "/board",
+                new ParameterizedTypeReference<BoardDto>() {}).getBody();
     }
 
     public TaskDto createTask(Long projectId, String title, String description, String status, String priority,
@@ -107,14 +156,14 @@ public class DesktopApiClient {
                 new ParameterizedTypeReference<Void>() {});
     }
 
-    public List<UserDto> listAllUsers() {
-        return exchangeWithAuth("/api/users", HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<UserDto>>() {});
+    public List<UserDto> searchUsers(String prefix, int limit) {
+        return exchangeWithAuth("/api/users/search?prefix={prefix}&limit={limit}", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<UserDto>>() {}, prefix, limit);
     }
 
     public List<MemberDto> listProjectMembers(Long projectId) {
-        return exchangeWithAuth("/api/projects/" + projectId + "/members", HttpMethod.GET, null,
-                new ParameterizedTypeReference<List<MemberDto>>() {});
+        return getConditional("/api/projects/" + projectId + "/members",
+                new ParameterizedTypeReference<List<MemberDto>>() {}).getBody();
     }
 
     public void addProjectMember(Long projectId, Long userId) {
@@ -157,17 +206,44 @@ public class DesktopApiClient {
     }
 
     private <T> T exchangeWithAuth(String path, HttpMethod method, Object payload,
-            ParameterizedTypeReference<T> responseType) {
+            ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+        return exchangeEntityWithAuth(path, method, payload, responseType, uriVariables).getBody();
+    }
+
+    private <T> ResponseEntity<T> exchangeEntityWithAuth(String path, HttpMethod method, Object payload,
+            ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+        return exchangeEntityWithAuth(path, method, payload, new HttpHeaders(), responseType, uriVariables);
+    }
+
+    // Sends If-None-Match with the cached ETag; on 304 Not Modified the cached response (body and headers such
+    // as X-Next-Cursor) is returned as if it had just been downloaded.
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> getConditional(String path, ParameterizedTypeReference<T> responseType) {
+        ResponseEntity<T> cached = (ResponseEntity<T>) conditionalCache.get(path);
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.getHeaders().getETag());
+        }
+        ResponseEntity<T> response = exchangeEntityWithAuth(path, HttpMethod.GET, null, headers, responseType);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+            return cached;
+        }
+        if (response.getHeaders().getETag() != null) {
+            conditionalCache.put(path, response);
+        }
+        return response;
+    }
+
+    private <T> ResponseEntity<T> exchangeEntityWithAuth(String path, HttpMethod method, Object payload,
+            HttpHeaders headers, ParameterizedTypeReference<T> responseType, Object... uriVariables) {
         if (currentUser == null || currentUser.getId() == null) {
             throw new ApiException(401, "Not logged in", null);
         }
         try {
-            HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.add("X-USER-ID", String.valueOf(currentUser.getId()));
             HttpEntity<Object> entity = new HttpEntity<>(payload, headers);
-            ResponseEntity<T> response = restTemplate.exchange(baseUrl + path, method, entity, responseType);
-            return response.getBody();
+            return restTemplate.exchange(baseUrl + path, method, entity, responseType, uriVariables);
         } catch (RestClientResponseException ex) {
             String detail = resolveErrorMessage(ex);
             throw new ApiException(ex.getRawStatusCode(), detail, ex);
@@ -176,25 +252,47 @@ public class DesktopApiClient {
         }
     }
 
+    private Long parseLongHeader(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
     private String resolveErrorMessage(RestClientResponseException ex) {
+        // Errors are negotiated like any other response, so they may arrive as Smile.
+        HttpHeaders responseHeaders = ex.getResponseHeaders();
+        if (responseHeaders != null && SMILE.isCompatibleWith(responseHeaders.getContentType())) {
+            String message = readErrorMessage(smileMapper, ex.getResponseBodyAsByteArray());
+            return message != null ? message : ex.getStatusText();
+        }
         String body = ex.getResponseBodyAsString();
         if (body != null && !body.trim().isEmpty()) {
-            try {
-                JsonNode node = objectMapper.readTree(body);
-                if (node.hasNonNull("message")) {
-                    return node.get("message").asText();
-                }
-                if (node.hasNonNull("error")) {
-                    return node.get("error").asText();
-                }
-            } catch (Exception parsingIgnored) {
-                // swallow and fall through to plain text
-            }
-            return body;
+            String message = readErrorMessage(objectMapper, ex.getResponseBodyAsByteArray());
+            return message != null ? message : body;
         }
         return ex.getStatusText();
     }
 
+    private String readErrorMessage(ObjectMapper mapper, byte[] body) {
+        try {
+            JsonNode node = mapper.readTree(body);
+            if (node.hasNonNull("message")) {
+                return node.get("message").asText();
+            }
+            if (node.hasNonNull("error")) {
+                return node.get("error").asText();
+            }
+        } catch (Exception parsingIgnored) {
+            // swallow and fall back to the raw body or status text
+        }
+        return null;
+    }
+
     public static class RegisterRequest {
         private String username;
         private String email;
@@ -471,6 +569,73 @@ public class DesktopApiClient {
         }
     }
 
+    public static class TaskListSnapshot {
+        private final List<TaskDto> tasks;
+        private final Long revision;
+
+        public TaskListSnapshot(List<TaskDto> tasks, Long revision) {
+            this.tasks = tasks;
+            this.revision = revision;
+        }
+
+        public List<TaskDto> getTasks() {
+            return tasks;
+        }
+
+        public Long getRevision() {
+            return revision;
+        }
+    }
+
+    public static class BoardDto {
+        private ProjectDto project;
+        private List<MemberDto> members;
+        private Map<String, List<TaskDto>> tasks;
+        private Long revision;
+
+        public ProjectDto getProject() {
+            return project;
+        }
+
+        public void setProject(ProjectDto project) {
+            this.project = project;
+        }
+
+        public List<MemberDto> getMembers() {
+            return members;
+        }
+
+        public void setMembers(List<MemberDto> members) {
+            this.members = members;
+        }
+
+        public Map<String, List<TaskDto>> getTasks() {
+            return tasks;
+        }
+
+        public void setTasks(Map<String, List<TaskDto>> tasks) {
+            this.tasks = tasks;
+        }
+
+        public Long getRevision() {
+            return revision;
+        }
+
+        public void setRevision(Long revision) {
+            this.revision = revision;
+        }
+
+        public List<TaskDto> allTasks() {
+            List<TaskDto> all = new ArrayList<>();
+            if (tasks != null) {
+                for (List<TaskDto> column : tasks.values()) {
+                    all.addAll(column);
+                }
+            }
+            return all;
+        }
+    }
+
     public static class UserDto {
         private Long id;
         private String username;
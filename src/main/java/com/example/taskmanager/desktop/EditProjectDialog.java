@@ -42,7 +42,7 @@ public class EditProjectDialog extends JDialog {
     private final JButton deleteButton = new JButton("Delete Project");
     private final DefaultListModel<MemberDto> membersModel = new DefaultListModel<>();
     private final JList<MemberDto> membersList = new JList<>(membersModel);
-    private final javax.swing.JComboBox<UserDto> allUsersCombo = new javax.swing.JComboBox<>();
+    private final UserSearchField userSearch;
     private final JLabel statusLabel = new JLabel(" ");
 
     public EditProjectDialog(Window owner, DesktopApiClient apiClient, ProjectDto project,
@@ -51,6 +51,7 @@ public class EditProjectDialog extends JDialog {
         this.apiClient = apiClient;
         this.project = project;
         this.onProjectDeletedOrUpdated = onProjectDeletedOrUpdated;
+        this.userSearch = new UserSearchField(apiClient);
         setLayout(new BorderLayout(8, 8));
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
         setPreferredSize(new Dimension(520, 520));
@@ -61,7 +62,6 @@ public class EditProjectDialog extends JDialog {
         pack();
         setLocationRelativeTo(owner);
         loadMembers();
-        loadAllUsers();
     }
 
     private void buildUi() {
@@ -135,24 +135,7 @@ public class EditProjectDialog extends JDialog {
         });
 
         JPanel addRow = new JPanel(new BorderLayout(4, 4));
-        allUsersCombo.setRenderer((list, value, index, isSelected, cellHasFocus) -> {
-            JLabel label = new JLabel();
-            if (value != null) {
-                String text = value.getUsername();
-                if (value.getEmail() != null) {
-                    text += " (" + value.getEmail() + ")";
-                }
-                label.setText(text);
-            }
-            if (isSelected) {
-                label.setOpaque(true);
-                label.setBackground(list.getSelectionBackground());
-                label.setForeground(list.getSelectionForeground());
-            }
-            label.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
-            return label;
-        });
-        addRow.add(allUsersCombo, BorderLayout.CENTER);
+        addRow.add(userSearch, BorderLayout.CENTER);
         JPanel btns = new JPanel(new FlowLayout(FlowLayout.RIGHT, 4, 0));
         btns.add(addMemberButton);
         btns.add(removeMemberButton);
@@ -207,7 +190,7 @@ public class EditProjectDialog extends JDialog {
     }
 
     private void addMember() {
-        UserDto selected = (UserDto) allUsersCombo.getSelectedItem();
+        UserDto selected = userSearch.getSelectedUser();
         if (selected == null) {
             statusLabel.setText("Select a user to add");
             return;
@@ -234,6 +217,7 @@ public class EditProjectDialog extends JDialog {
                 try {
                     get();
                     statusLabel.setText("Member added");
+                    userSearch.clear();
                     loadMembers();
                     if (onProjectDeletedOrUpdated != null) {
                         onProjectDeletedOrUpdated.run();
@@ -343,30 +327,6 @@ public class EditProjectDialog extends JDialog {
         }.execute();
     }
 
-    private void loadAllUsers() {
-        allUsersCombo.setEnabled(false);
-        new SwingWorker<List<UserDto>, Void>() {
-            @Override
-            protected List<UserDto> doInBackground() {
-                return apiClient.listAllUsers();
-            }
-
-            @Override
-            protected void done() {
-                allUsersCombo.setEnabled(true);
-                try {
-                    List<UserDto> users = get();
-                    allUsersCombo.removeAllItems();
-                    for (UserDto u : users) {
-                        allUsersCombo.addItem(u);
-                    }
-                } catch (Exception ex) {
-                    statusLabel.setText("Load users failed: " + describeError(ex));
-                }
-            }
-        }.execute();
-    }
-
     private void toggleMemberButtons(boolean enabled) {
         addMemberButton.setEnabled(enabled);
         removeMemberButton.setEnabled(enabled && !membersList.isSelectionEmpty());
@@ -40,6 +40,7 @@ public class EditTaskDialog extends JDialog {
     private final Long projectId;
     private final TaskDto task;
     private final Runnable onUpdatedOrDeleted;
+    private final List<MemberDto> members;
 
     private final JTextField titleField = new JTextField();
     private final JTextArea descArea = new JTextArea(4, 30);
@@ -54,12 +55,13 @@ public class EditTaskDialog extends JDialog {
     private final JLabel statusLabel = new JLabel(" ");
 
     public EditTaskDialog(Window owner, DesktopApiClient apiClient, Long projectId, TaskDto task,
-            Runnable onUpdatedOrDeleted) {
+            List<MemberDto> members, Runnable onUpdatedOrDeleted) {
         super(owner, "Edit Task - " + task.getTitle(), ModalityType.APPLICATION_MODAL);
         this.apiClient = apiClient;
         this.projectId = projectId;
         this.task = task;
         this.onUpdatedOrDeleted = onUpdatedOrDeleted;
+        this.members = members;
         setLayout(new BorderLayout(8, 8));
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
         setPreferredSize(new Dimension(520, 520));
@@ -181,6 +183,11 @@ public class EditTaskDialog extends JDialog {
 
     private void loadMembers() {
         assigneeCombo.setEnabled(false);
+        // Members come with the board snapshot; only fetch when the dialog is opened without one.
+        if (members != null) {
+            showMembers(members);
+            return;
+        }
         new SwingWorker<List<MemberDto>, Void>() {
             @Override
             protected List<MemberDto> doInBackground() {
@@ -190,31 +197,7 @@ public class EditTaskDialog extends JDialog {
             @Override
             protected void done() {
                 try {
-                    List<MemberDto> members = get();
-                    DefaultComboBoxModel<UserDto> model = new DefaultComboBoxModel<>();
-                    model.addElement(null);
-                    Long currentAssigneeId = task.getAssigneeId();
-                    for (MemberDto m : members) {
-                        UserDto u = new UserDto();
-                        u.setId(m.getUserId());
-                        u.setUsername(m.getUsername());
-                        model.addElement(u);
-                    }
-                    assigneeCombo.setModel(model);
-                    // preselect assignee
-                    if (currentAssigneeId != null) {
-                        for (int i = 0; i < model.getSize(); i++) {
-                            UserDto u = model.getElementAt(i);
-                            if (u != null && currentAssigneeId.equals(u.getId())) {
-                                assigneeCombo.setSelectedIndex(i);
-                                break;
-                            }
-                        }
-                    } else {
-                        assigneeCombo.setSelectedIndex(0);
-                    }
-                    assigneeCombo.setEnabled(true);
-                    statusLabel.setText("Members loaded");
+                    showMembers(get());
                 } catch (Exception ex) {
                     statusLabel.setText("Load members failed: " + describeError(ex));
                     assigneeCombo.setEnabled(false);
@@ -223,6 +206,33 @@ public class EditTaskDialog extends JDialog {
         }.execute();
     }
 
+    private void showMembers(List<MemberDto> members) {
+        DefaultComboBoxModel<UserDto> model = new DefaultComboBoxModel<>();
+        model.addElement(null);
+        Long currentAssigneeId = task.getAssigneeId();
+        for (MemberDto m : members) {
+            UserDto u = new UserDto();
+            u.setId(m.getUserId());
+            u.setUsername(m.getUsername());
+            model.addElement(u);
+        }
+        assigneeCombo.setModel(model);
+        // preselect assignee
+        if (currentAssigneeId != null) {
+            for (int i = 0; i < model.getSize(); i++) {
+                UserDto u = model.getElementAt(i);
+                if (u != null && currentAssigneeId.equals(u.getId())) {
+                    assigneeCombo.setSelectedIndex(i);
+                    break;
+                }
+            }
+        } else {
+            assigneeCombo.setSelectedIndex(0);
+        }
+        assigneeCombo.setEnabled(true);
+        statusLabel.setText("Members loaded");
+    }
+
     private void saveTask() {
         String title = titleField.getText().trim();
         if (title.isEmpty()) {
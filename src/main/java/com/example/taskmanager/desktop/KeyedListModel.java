@@ -0,0 +1,187 @@
+package com.example.taskmanager.desktop;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import javax.swing.AbstractListModel;
+
+// A list model that is brought up to date with a fresh snapshot by key instead of being cleared and refilled.
+// setAll removes the rows that are gone, keeps the longest run of rows that are still in order, moves the rest
+// and inserts the new ones, firing one event per contiguous run. Rows whose content is unchanged fire nothing,
+// so a refresh that changed one task repaints one cell and JList keeps its selection and scroll position.
+public class KeyedListModel<K, T> extends AbstractListModel<T> {
+
+    private final Function<T, K> keyOf;
+    private final BiPredicate<T, T> sameContent;
+    private final ArrayList<T> items = new ArrayList<>();
+
+    public KeyedListModel(Function<T, K> keyOf, BiPredicate<T, T> sameContent) {
+        this.keyOf = keyOf;
+        this.sameContent = sameContent;
+    }
+
+    @Override
+    public int getSize() {
+        return items.size();
+    }
+
+    @Override
+    public T getElementAt(int index) {
+        return items.get(index);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    public void add(int index, T item) {
+        items.add(index, item);
+        fireIntervalAdded(this, index, index);
+    }
+
+    public T remove(int index) {
+        T removed = items.remove(index);
+        fireIntervalRemoved(this, index, index);
+        return removed;
+    }
+
+    public void clear() {
+        if (items.isEmpty()) {
+            return;
+        }
+        int last = items.size() - 1;
+        items.clear();
+        fireIntervalRemoved(this, 0, last);
+    }
+
+    public void setAll(List<T> target) {
+        Map<K, Integer> targetIndex = new HashMap<>(target.size() * 2);
+        for (int i = 0; i < target.size(); i++) {
+            targetIndex.put(keyOf.apply(target.get(i)), i);
+        }
+        int size = items.size();
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            Integer position = targetIndex.get(keyOf.apply(items.get(i)));
+            positions[i] = position != null ? position : -1;
+        }
+        boolean[] stays = longestIncreasingSubsequence(positions);
+        int kept = 0;
+        for (boolean stay : stays) {
+            if (stay) {
+                kept++;
+            }
+        }
+        // Duplicate keys cannot be diffed, and past half the rows the individual events cost more than a reset.
+        int edits = (size - kept) + (target.size() - kept);
+        if (targetIndex.size() != target.size() || edits > Math.max(size, target.size()) / 2) {
+            replaceAll(target);
+            return;
+        }
+
+        // Removed and moved rows go first, back to front so earlier indices stay valid.
+        int i = size - 1;
+        while (i >= 0) {
+            if (stays[i]) {
+                i--;
+                continue;
+            }
+            int last = i;
+            while (i >= 0 && !stays[i]) {
+                i--;
+            }
+            items.subList(i + 1, last + 1).clear();
+            fireIntervalRemoved(this, i + 1, last);
+        }
+
+        // What is left is a subsequence of the target in target order, so a single walk inserts the new and moved
+        // rows around it and swaps in the fresh instances of the rows that stayed.
+        int[] keptPositions = new int[kept];
+        for (int from = 0, to = 0; from < size; from++) {
+            if (stays[from]) {
+                keptPositions[to++] = positions[from];
+            }
+        }
+        int next = 0;
+        int changedFrom = -1;
+        for (int k = 0; k <= kept; k++) {
+            int until = k < kept ? keptPositions[k] : target.size();
+            if (next < until) {
+                changedFrom = fireChanged(changedFrom, next);
+                items.addAll(next, target.subList(next, until));
+                fireIntervalAdded(this, next, until - 1);
+                next = until;
+            }
+            if (k < kept) {
+                T current = items.get(next);
+                T fresh = target.get(next);
+                items.set(next, fresh);
+                if (sameContent.test(current, fresh)) {
+                    changedFrom = fireChanged(changedFrom, next);
+                } else if (changedFrom < 0) {
+                    changedFrom = next;
+                }
+                next++;
+            }
+        }
+        fireChanged(changedFrom, next);
+    }
+
+    // Flushes a pending run of changed rows ending before end; returns the new (empty) run start.
+    private int fireChanged(int changedFrom, int end) {
+        if (changedFrom >= 0 && changedFrom < end) {
+            fireContentsChanged(this, changedFrom, end - 1);
+        }
+        return -1;
+    }
+
+    private void replaceAll(List<T> target) {
+        clear();
+        if (!target.isEmpty()) {
+            items.addAll(target);
+            fireIntervalAdded(this, 0, target.size() - 1);
+        }
+    }
+
+    // Patience sorting over the rows' target positions (-1 for rows that are gone). The rows it marks keep their
+    // relative order in the target and stay put; every other surviving row has moved.
+    static boolean[] longestIncreasingSubsequence(int[] positions) {
+        int n = positions.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int position = positions[i];
+            if (position < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[tails[mid]] < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] inSequence = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            inSequence[i] = true;
+        }
+        return inSequence;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanager.desktop;
+
+import com.example.taskmanager.desktop.DesktopApiClient.MemberDto;
+import java.util.List;
+
+@FunctionalInterface
+public interface ProjectMembersListener {
+    void onMembersLoaded(Long projectId, List<MemberDto> members);
+}
@@ -6,10 +6,11 @@ import java.awt.BorderLayout;
 import java.awt.FlowLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.BorderFactory;
-import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JList;
@@ -25,9 +26,11 @@ import javax.swing.SwingWorker;
 public class ProjectsListPanel extends JPanel {
 
     private final DesktopApiClient apiClient;
-    private final DefaultListModel<ProjectDto> projectModel = new DefaultListModel<>();
+    private final KeyedListModel<Long, ProjectDto> projectModel =
+            new KeyedListModel<>(ProjectDto::getId, ProjectsListPanel::sameProject);
     private final JList<ProjectDto> projectList = new JList<>(projectModel);
-    private final DefaultListModel<MemberDto> membersModel = new DefaultListModel<>();
+    private final KeyedListModel<Long, MemberDto> membersModel =
+            new KeyedListModel<>(MemberDto::getUserId, ProjectsListPanel::sameMember);
     private final JList<MemberDto> membersList = new JList<>(membersModel);
     private final JLabel statusLabel = new JLabel(" ");
     private ProjectSelectionListener selectionListener;
@@ -91,7 +94,8 @@ public class ProjectsListPanel extends JPanel {
                 boolean owner = selected != null && user != null && selected.getOwnerId() != null
                         && selected.getOwnerId().equals(user.getId());
                 editProjectBtn.setEnabled(selected != null && owner);
-                loadMembersForSelected();
+                // members arrive with the board snapshot loaded for the selection, see showMembers
+                membersModel.clear();
                 if (selectionListener != null) {
                     selectionListener.onProjectSelected(selected);
                 }
@@ -233,36 +237,27 @@ public class ProjectsListPanel extends JPanel {
         java.awt.Window owner = javax.swing.SwingUtilities.getWindowAncestor(this);
         EditProjectDialog dialog = new EditProjectDialog(owner, apiClient, selected, () -> {
             refreshProjects(true, selected.getId());
-            loadMembersForSelected();
         });
         dialog.setVisible(true);
     }
 
-    private void loadMembersForSelected() {
+    public void showMembers(Long projectId, List<MemberDto> members) {
         ProjectDto selected = projectList.getSelectedValue();
-        if (selected == null) {
-            membersModel.clear();
+        if (selected == null || !selected.getId().equals(projectId)) {
             return;
         }
-        new SwingWorker<List<MemberDto>, Void>() {
-            @Override
-            protected List<MemberDto> doInBackground() {
-                return apiClient.listProjectMembers(selected.getId());
-            }
+        membersModel.setAll(members);
+    }
 
-            @Override
-            protected void done() {
-                try {
-                    List<MemberDto> members = get();
-                    membersModel.clear();
-                    for (MemberDto m : members) {
-                        membersModel.addElement(m);
-                    }
-                } catch (Exception ex) {
-                    statusLabel.setText("Members load failed: " + describeError(ex));
-                }
-            }
-        }.execute();
+    private static boolean sameProject(ProjectDto a, ProjectDto b) {
+        return Objects.equals(a.getUpdatedAt(), b.getUpdatedAt())
+                && Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getDescription(), b.getDescription())
+                && Objects.equals(a.getOwnerUsername(), b.getOwnerUsername());
+    }
+
+    private static boolean sameMember(MemberDto a, MemberDto b) {
+        return Objects.equals(a.getUsername(), b.getUsername()) && Objects.equals(a.getRole(), b.getRole());
     }
 
     private String describeError(Exception ex) {
@@ -289,6 +284,17 @@ public class ProjectsListPanel extends JPanel {
         projectMenu.add(deleteItem);
     }
 
+    private void syncRealtimeSubscriptions(List<ProjectDto> projects) {
+        if (realtimeClient == null) {
+            return;
+        }
+        List<Long> projectIds = new ArrayList<>();
+        for (ProjectDto p : projects) {
+            projectIds.add(p.getId());
+        }
+        realtimeClient.syncProjectSubscriptions(projectIds);
+    }
+
     private void refreshProjects(boolean showErrors, Long selectProjectId) {
         if (!refreshInProgress.compareAndSet(false, true)) {
             return;
@@ -313,10 +319,8 @@ public class ProjectsListPanel extends JPanel {
                 refreshInProgress.set(false);
                 try {
                     List<ProjectDto> projects = get();
-                    projectModel.clear();
-                    for (ProjectDto p : projects) {
-                        projectModel.addElement(p);
-                    }
+                    syncRealtimeSubscriptions(projects);
+                    projectModel.setAll(projects);
                     if (projects.isEmpty()) {
                         membersModel.clear();
                         if (selectionListener != null) {
@@ -339,7 +343,15 @@ public class ProjectsListPanel extends JPanel {
                             }
                         }
                         if (idx >= 0) {
-                            projectList.setSelectedIndex(idx);
+                            if (projectList.getSelectedIndex() == idx) {
+                                // The diff kept the selection, so no selection event fires; announce it again
+                                // so the board picks up whatever change triggered this refresh.
+                                if (selectionListener != null) {
+                                    selectionListener.onProjectSelected(projectModel.get(idx));
+                                }
+                            } else {
+                                projectList.setSelectedIndex(idx);
+                            }
                             return;
                         } else {
                             projectList.clearSelection();
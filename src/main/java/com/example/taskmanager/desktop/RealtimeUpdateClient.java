@@ -1,7 +1,14 @@
 package com.example.taskmanager.desktop;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
@@ -18,6 +25,8 @@ public class RealtimeUpdateClient {
     private final WebSocketStompClient stompClient;
     private final String endpointUrl;
     private StompSession session;
+    private StompSession.Subscription userSubscription;
+    private final Map<Long, StompSession.Subscription> projectSubscriptions = new HashMap<>();
     private final List<ProjectUpdateListener> projectListeners = new CopyOnWriteArrayList<>();
     private final List<TaskUpdateListener> taskListeners = new CopyOnWriteArrayList<>();
 
@@ -32,32 +41,67 @@ public class RealtimeUpdateClient {
             ListenableFuture<StompSession> future = stompClient.connect(endpointUrl, new StompSessionHandlerAdapter() {
             });
             session = future.get(5, TimeUnit.SECONDS);
-            subscribe();
         } catch (Exception ex) {
             System.err.println("Failed to connect to realtime endpoint: " + ex.getMessage());
         }
     }
 
-    private void subscribe() {
-        if (session == null || !session.isConnected()) {
+    public synchronized void subscribeToUser(Long userId) {
+        if (userSubscription != null) {
+            userSubscription.unsubscribe();
+            userSubscription = null;
+        }
+        if (userId == null || !isConnected()) {
+            return;
+        }
+        userSubscription = session.subscribe("/topic/users/" + userId + "/projects",
+                new SimpleFrameHandler(ProjectEventMessage.class) {
+                    @Override
+                    protected void handlePayload(Object payload) {
+                        if (payload instanceof ProjectEventMessage) {
+                            notifyProjectListeners((ProjectEventMessage) payload);
+                        }
+                    }
+                });
+    }
+
+    // Keeps one task topic subscription per project the user can currently see.
+    public synchronized void syncProjectSubscriptions(Collection<Long> projectIds) {
+        if (!isConnected()) {
+            projectSubscriptions.clear();
             return;
         }
-        session.subscribe("/topic/projects", new SimpleFrameHandler(ProjectEventMessage.class) {
-            @Override
-            protected void handlePayload(Object payload) {
-                if (payload instanceof ProjectEventMessage) {
-                    notifyProjectListeners((ProjectEventMessage) payload);
-                }
+        Set<Long> wanted = new HashSet<>(projectIds);
+        Iterator<Map.Entry<Long, StompSession.Subscription>> it = projectSubscriptions.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, StompSession.Subscription> entry = it.next();
+            if (!wanted.contains(entry.getKey())) {
+                entry.getValue().unsubscribe();
+                it.remove();
             }
-        });
-        session.subscribe("/topic/tasks", new SimpleFrameHandler(TaskEventMessage.class) {
-            @Override
-            protected void handlePayload(Object payload) {
-                if (payload instanceof TaskEventMessage) {
-                    notifyTaskListeners((TaskEventMessage) payload);
-                }
+        }
+        for (Long projectId : wanted) {
+            if (!projectSubscriptions.containsKey(projectId)) {
+                projectSubscriptions.put(projectId, session.subscribe("/topic/projects/" + projectId + "/tasks",
+                        new SimpleFrameHandler(TaskEventMessage.class) {
+                            @Override
+                            protected void handlePayload(Object payload) {
+                                if (payload instanceof TaskEventMessage) {
+                                    notifyTaskListeners((TaskEventMessage) payload);
+                                }
+                            }
+                        }));
             }
-        });
+        }
+    }
+
+    public synchronized void clearSubscriptions() {
+        subscribeToUser(null);
+        syncProjectSubscriptions(Collections.<Long>emptyList());
+    }
+
+    private boolean isConnected() {
+        return session != null && session.isConnected();
     }
 
     public void disconnect() {
@@ -1,11 +1,17 @@
 package com.example.taskmanager.desktop;
 
+import java.util.List;
+
 public class TaskEventMessage {
 
     private String type;
     private Long projectId;
     private Long taskId;
     private Long triggeredBy;
+    private Long version;
+    private DesktopApiClient.TaskDto task;
+    private List<DesktopApiClient.TaskDto> tasks;
+    private List<Long> deletedTaskIds;
 
     public String getType() {
         return type;
@@ -38,4 +44,36 @@ public class TaskEventMessage {
     public void setTriggeredBy(Long triggeredBy) {
         this.triggeredBy = triggeredBy;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public DesktopApiClient.TaskDto getTask() {
+        return task;
+    }
+
+    public void setTask(DesktopApiClient.TaskDto task) {
+        this.task = task;
+    }
+
+    public List<DesktopApiClient.TaskDto> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<DesktopApiClient.TaskDto> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<Long> getDeletedTaskIds() {
+        return deletedTaskIds;
+    }
+
+    public void setDeletedTaskIds(List<Long> deletedTaskIds) {
+        this.deletedTaskIds = deletedTaskIds;
+    }
 }
@@ -70,6 +70,7 @@ public class TaskManagerDesktopApp extends JFrame implements LoginSuccessListene
         int choice = JOptionPane.showConfirmDialog(this, "Log out?", "Confirm Logout", JOptionPane.YES_NO_OPTION);
         if (choice == JOptionPane.YES_OPTION) {
             apiClient.setCurrentUser(null);
+            realtimeClient.clearSubscriptions();
             showAuth();
         }
     }
@@ -1,15 +1,20 @@
 package com.example.taskmanager.desktop;
 
+import com.example.taskmanager.desktop.DesktopApiClient.BoardDto;
+import com.example.taskmanager.desktop.DesktopApiClient.MemberDto;
 import com.example.taskmanager.desktop.DesktopApiClient.ProjectDto;
 import com.example.taskmanager.desktop.DesktopApiClient.TaskDto;
 import java.awt.BorderLayout;
+import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.GridLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.BorderFactory;
-import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JList;
@@ -20,17 +25,24 @@ import javax.swing.JPopupMenu;
 import javax.swing.JScrollPane;
 import javax.swing.SwingUtilities;
 import javax.swing.SwingWorker;
+import javax.swing.ToolTipManager;
 import javax.swing.ListSelectionModel;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 public class TasksListPanel extends JPanel {
 
+    private static final int CELL_PADDING = 4;
+    private static final String ELLIPSIS = "\u2026";
+
     private final DesktopApiClient apiClient;
     private final RealtimeUpdateClient realtimeClient;
-    private final DefaultListModel<TaskDto> todoModel = new DefaultListModel<>();
-    private final DefaultListModel<TaskDto> doingModel = new DefaultListModel<>();
-    private final DefaultListModel<TaskDto> doneModel = new DefaultListModel<>();
+    private final KeyedListModel<Long, TaskDto> todoModel =
+            new KeyedListModel<>(TaskDto::getId, TasksListPanel::sameTask);
+    private final KeyedListModel<Long, TaskDto> doingModel =
+            new KeyedListModel<>(TaskDto::getId, TasksListPanel::sameTask);
+    private final KeyedListModel<Long, TaskDto> doneModel =
+            new KeyedListModel<>(TaskDto::getId, TasksListPanel::sameTask);
     private final JList<TaskDto> todoList = new JList<>(todoModel);
     private final JList<TaskDto> doingList = new JList<>(doingModel);
     private final JList<TaskDto> doneList = new JList<>(doneModel);
@@ -43,6 +55,9 @@ public class TasksListPanel extends JPanel {
     private final JLabel doingHeader = new JLabel("DOING (0)");
     private final JLabel doneHeader = new JLabel("DONE (0)");
     private boolean suppressSelectionEvents = false;
+    private Long knownRevision;
+    private List<MemberDto> currentMembers;
+    private ProjectMembersListener membersListener;
 
     public TasksListPanel(DesktopApiClient apiClient, RealtimeUpdateClient realtimeClient) {
         this.apiClient = apiClient;
@@ -79,17 +94,10 @@ public class TasksListPanel extends JPanel {
             return;
         }
         realtimeClient.addTaskListener(event -> {
-            DesktopApiClient.AuthResponse current = apiClient.getCurrentUser();
-            Long currentUserId = current != null ? current.getId() : null;
             if (event.getProjectId() == null) {
                 return;
             }
-            if (currentUserId != null && currentUserId.equals(event.getTriggeredBy())) {
-                return;
-            }
-            if (currentProject != null && event.getProjectId().equals(currentProject.getId())) {
-                SwingUtilities.invokeLater(() -> refreshTasks(false));
-            }
+            SwingUtilities.invokeLater(() -> applyTaskEvent(event));
         });
         realtimeClient.addProjectListener(event -> {
             if ("PROJECT_DELETED".equals(event.getType()) && currentProject != null
@@ -99,8 +107,79 @@ public class TasksListPanel extends JPanel {
         });
     }
 
+    private void applyTaskEvent(TaskEventMessage event) {
+        if (currentProject == null || !event.getProjectId().equals(currentProject.getId())) {
+            return;
+        }
+        Long version = event.getVersion();
+        if (version != null && knownRevision != null && version <= knownRevision) {
+            return; // already reflected by a newer load
+        }
+        boolean batch = "TASKS_BATCH".equals(event.getType());
+        boolean deleted = "TASK_DELETED".equals(event.getType());
+        boolean patchable = version != null && knownRevision != null && version == knownRevision + 1
+                && (batch || (event.getTaskId() != null && (deleted || event.getTask() != null)));
+        if (!patchable) {
+            refreshTasks(false);
+            return;
+        }
+        Long selectedId = getSelectedTaskId();
+        if (batch) {
+            if (event.getDeletedTaskIds() != null) {
+                for (Long taskId : event.getDeletedTaskIds()) {
+                    removeTask(taskId);
+                }
+            }
+            if (event.getTasks() != null) {
+                for (TaskDto task : event.getTasks()) {
+                    removeTask(task.getId());
+                    modelForStatus(task.getStatus()).add(0, task);
+                }
+            }
+        } else {
+            removeTask(event.getTaskId());
+            if (!deleted) {
+                // lists are ordered by most recently updated first
+                modelForStatus(event.getTask().getStatus()).add(0, event.getTask());
+            }
+        }
+        knownRevision = version;
+        updateHeaders();
+        if (selectedId != null) {
+            reselectIfPresent(todoList, todoModel, selectedId);
+            reselectIfPresent(doingList, doingModel, selectedId);
+            reselectIfPresent(doneList, doneModel, selectedId);
+        }
+    }
+
+    private void removeTask(Long taskId) {
+        for (KeyedListModel<Long, TaskDto> model : java.util.Arrays.asList(todoModel, doingModel, doneModel)) {
+            for (int i = 0; i < model.size(); i++) {
+                if (taskId.equals(model.get(i).getId())) {
+                    model.remove(i);
+                    return;
+                }
+            }
+        }
+    }
+
+    private KeyedListModel<Long, TaskDto> modelForStatus(String status) {
+        if (status == null || "TODO".equalsIgnoreCase(status)) {
+            return todoModel;
+        } else if ("DOING".equalsIgnoreCase(status)) {
+            return doingModel;
+        }
+        return doneModel;
+    }
+
+    public void setMembersListener(ProjectMembersListener membersListener) {
+        this.membersListener = membersListener;
+    }
+
     public void setCurrentProject(ProjectDto project) {
         this.currentProject = project;
+        this.knownRevision = null;
+        this.currentMembers = null;
         if (project == null) {
             projectLabel.setText("No project selected");
             clearLists();
@@ -128,17 +207,27 @@ public class TasksListPanel extends JPanel {
         }
         Long selectedId = getSelectedTaskId();
         final Long preserveId = selectedId;
-        new SwingWorker<List<TaskDto>, Void>() {
+        final Long projectId = currentProject.getId();
+        new SwingWorker<BoardDto, Void>() {
             @Override
-            protected List<TaskDto> doInBackground() {
-                return apiClient.listTasks(currentProject.getId());
+            protected BoardDto doInBackground() {
+                return apiClient.getBoard(projectId);
             }
 
             @Override
             protected void done() {
                 refreshInProgress.set(false);
                 try {
-                    List<TaskDto> tasks = get();
+                    BoardDto board = get();
+                    if (currentProject == null || !projectId.equals(currentProject.getId())) {
+                        return;
+                    }
+                    List<TaskDto> tasks = board.allTasks();
+                    knownRevision = board.getRevision();
+                    currentMembers = board.getMembers();
+                    if (membersListener != null) {
+                        membersListener.onMembersLoaded(projectId, currentMembers);
+                    }
                     renderTasks(tasks, preserveId);
                     if (showErrors) {
                         statusLabel.setText("Loaded " + tasks.size() + " tasks");
@@ -159,7 +248,7 @@ public class TasksListPanel extends JPanel {
         }
         java.awt.Window owner = SwingUtilities.getWindowAncestor(this);
         CreateTaskDialog dialog = new CreateTaskDialog(apiClient, owner,
-                currentProject.getId(), currentProject.getName());
+                currentProject.getId(), currentProject.getName(), currentMembers);
         dialog.setOnSuccess(() -> refreshTasks(true));
         dialog.setVisible(true);
     }
@@ -170,9 +259,8 @@ public class TasksListPanel extends JPanel {
             return;
         }
         java.awt.Window owner = SwingUtilities.getWindowAncestor(this);
-        EditTaskDialog dialog = new EditTaskDialog(owner, apiClient, currentProject.getId(), task, () -> {
-            refreshTasks(true);
-        });
+        EditTaskDialog dialog = new EditTaskDialog(owner, apiClient, currentProject.getId(), task, currentMembers,
+                () -> refreshTasks(true));
         dialog.setVisible(true);
     }
 
@@ -231,17 +319,23 @@ public class TasksListPanel extends JPanel {
                 String priority = value.getPriority() != null ? value.getPriority() : "";
                 String assignee = value.getAssigneeUsername() != null ? value.getAssigneeUsername() : "Unassigned";
                 String due = value.getDueDate() != null ? formatDue(value.getDueDate()) : "";
-                label.setText("<html><b>" + title + "</b><br/>" + priority
+                label.setText("<html><b>" + fitTitle(label, title, l.getWidth()) + "</b><br/>" + priority
                         + " | " + assignee + (due.isEmpty() ? "" : "</b><br/>Due: " + due) + "</html>");
+                label.setToolTipText(title);
             }
             if (isSelected) {
                 label.setOpaque(true);
                 label.setBackground(l.getSelectionBackground());
                 label.setForeground(l.getSelectionForeground());
             }
-            label.setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
+            label.setBorder(BorderFactory.createEmptyBorder(CELL_PADDING, CELL_PADDING, CELL_PADDING, CELL_PADDING));
             return label;
         });
+        // Sizes every cell from one three-line card. Without it any model event makes the list UI measure every
+        // HTML cell again, which is what stalls the EDT on large boards even when a single row changed. The card
+        // width is only a minimum: the list stretches to the column, and fitTitle shortens titles to what is shown.
+        list.setPrototypeCellValue(prototypeTask());
+        ToolTipManager.sharedInstance().registerComponent(list);
         list.addListSelectionListener(e -> {
             if (suppressSelectionEvents || e.getValueIsAdjusting()) {
                 return;
@@ -386,21 +480,23 @@ public class TasksListPanel extends JPanel {
     }
 
     private void renderTasks(List<TaskDto> tasks, Long preserveId) {
-        todoModel.clear();
-        doingModel.clear();
-        doneModel.clear();
+        List<TaskDto> todo = new ArrayList<>();
+        List<TaskDto> doing = new ArrayList<>();
+        List<TaskDto> done = new ArrayList<>();
         for (TaskDto t : tasks) {
-            if (t.getStatus() == null || "TODO".equalsIgnoreCase(t.getStatus())) {
-                todoModel.addElement(t);
-            } else if ("DOING".equalsIgnoreCase(t.getStatus())) {
-                doingModel.addElement(t);
+            KeyedListModel<Long, TaskDto> model = modelForStatus(t.getStatus());
+            if (model == todoModel) {
+                todo.add(t);
+            } else if (model == doingModel) {
+                doing.add(t);
             } else {
-                doneModel.addElement(t);
+                done.add(t);
             }
         }
-        todoHeader.setText("TODO (" + todoModel.size() + ")");
-        doingHeader.setText("DOING (" + doingModel.size() + ")");
-        doneHeader.setText("DONE (" + doneModel.size() + ")");
+        todoModel.setAll(todo);
+        doingModel.setAll(doing);
+        doneModel.setAll(done);
+        updateHeaders();
         if (preserveId != null) {
             reselectIfPresent(todoList, todoModel, preserveId);
             reselectIfPresent(doingList, doingModel, preserveId);
@@ -408,7 +504,7 @@ public class TasksListPanel extends JPanel {
         }
     }
 
-    private void reselectIfPresent(JList<TaskDto> list, DefaultListModel<TaskDto> model, Long preserveId) {
+    private void reselectIfPresent(JList<TaskDto> list, KeyedListModel<Long, TaskDto> model, Long preserveId) {
         for (int i = 0; i < model.size(); i++) {
             if (preserveId.equals(model.get(i).getId())) {
                 list.setSelectedIndex(i);
@@ -426,6 +522,19 @@ public class TasksListPanel extends JPanel {
         }
     }
 
+    // Every server-side change to a task moves updatedAt, including the due flag refresh; the assignee name is
+    // the only rendered value that can change without it.
+    private static boolean sameTask(TaskDto a, TaskDto b) {
+        return Objects.equals(a.getUpdatedAt(), b.getUpdatedAt())
+                && Objects.equals(a.getAssigneeUsername(), b.getAssigneeUsername());
+    }
+
+    private void updateHeaders() {
+        todoHeader.setText("TODO (" + todoModel.size() + ")");
+        doingHeader.setText("DOING (" + doingModel.size() + ")");
+        doneHeader.setText("DONE (" + doneModel.size() + ")");
+    }
+
     private void clearLists() {
         todoModel.clear();
         doingModel.clear();
@@ -448,6 +557,36 @@ public class TasksListPanel extends JPanel {
         return t == null ? null : t.getId();
     }
 
+    // Cells have a fixed size and the bold title never wraps, so a title wider than the cell is cut to fit with an
+    // ellipsis; the full title is in the tooltip. The list width is 0 while the prototype is measured.
+    private static String fitTitle(JLabel label, String title, int listWidth) {
+        int available = listWidth - CELL_PADDING * 2;
+        FontMetrics metrics = label.getFontMetrics(label.getFont().deriveFont(Font.BOLD));
+        if (listWidth <= 0 || metrics.stringWidth(title) <= available) {
+            return title;
+        }
+        int low = 0;
+        int high = title.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (metrics.stringWidth(title.substring(0, mid) + ELLIPSIS) <= available) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return title.substring(0, low) + ELLIPSIS;
+    }
+
+    private static TaskDto prototypeTask() {
+        TaskDto task = new TaskDto();
+        task.setTitle("Task");
+        task.setPriority("MEDIUM");
+        task.setAssigneeUsername("Unassigned");
+        task.setDueDate("2026-01-01T00:00:00");
+        return task;
+    }
+
     private String formatDue(String raw) {
         if (raw == null || raw.trim().isEmpty()) {
             return "";
@@ -0,0 +1,118 @@
+package com.example.taskmanager.desktop;
+
+import com.example.taskmanager.desktop.DesktopApiClient.UserDto;
+import java.awt.BorderLayout;
+import java.util.List;
+import javax.swing.BorderFactory;
+import javax.swing.DefaultListModel;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+// Typeahead over /api/users/search: typing waits for a short pause, then shows the top matches for the prefix.
+public class UserSearchField extends JPanel {
+
+    private static final int DEBOUNCE_MILLIS = 200;
+    private static final int RESULT_LIMIT = 10;
+
+    private final DesktopApiClient apiClient;
+    private final JTextField queryField = new JTextField();
+    private final DefaultListModel<UserDto> resultsModel = new DefaultListModel<>();
+    private final JList<UserDto> resultsList = new JList<>(resultsModel);
+    private final Timer debounce;
+    private int generation;
+
+    public UserSearchField(DesktopApiClient apiClient) {
+        super(new BorderLayout(2, 2));
+        this.apiClient = apiClient;
+        this.debounce = new Timer(DEBOUNCE_MILLIS, e -> search());
+        debounce.setRepeats(false);
+
+        queryField.setToolTipText("Type a username or email");
+        queryField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                debounce.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                debounce.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                debounce.restart();
+            }
+        });
+
+        resultsList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        resultsList.setVisibleRowCount(4);
+        resultsList.setCellRenderer((list, value, index, isSelected, cellHasFocus) -> {
+            JLabel label = new JLabel();
+            if (value != null) {
+                label.setText(value.getUsername() + (value.getEmail() != null ? " (" + value.getEmail() + ")" : ""));
+            }
+            if (isSelected) {
+                label.setOpaque(true);
+                label.setBackground(list.getSelectionBackground());
+                label.setForeground(list.getSelectionForeground());
+            }
+            label.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
+            return label;
+        });
+
+        add(queryField, BorderLayout.NORTH);
+        add(new JScrollPane(resultsList), BorderLayout.CENTER);
+    }
+
+    public UserDto getSelectedUser() {
+        UserDto selected = resultsList.getSelectedValue();
+        if (selected == null && resultsModel.size() == 1) {
+            return resultsModel.get(0);
+        }
+        return selected;
+    }
+
+    public void clear() {
+        queryField.setText("");
+    }
+
+    private void search() {
+        String prefix = queryField.getText().trim();
+        int requested = ++generation;
+        if (prefix.isEmpty()) {
+            resultsModel.clear();
+            return;
+        }
+        new SwingWorker<List<UserDto>, Void>() {
+            @Override
+            protected List<UserDto> doInBackground() {
+                return apiClient.searchUsers(prefix, RESULT_LIMIT);
+            }
+
+            @Override
+            protected void done() {
+                // A slower response for an older prefix must not overwrite newer results.
+                if (requested != generation) {
+                    return;
+                }
+                resultsModel.clear();
+                try {
+                    for (UserDto user : get()) {
+                        resultsModel.addElement(user);
+                    }
+                } catch (Exception ex) {
+                    // Leave the list empty; the dialog reports errors on submit.
+                }
+            }
+        }.execute();
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.taskmanager.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
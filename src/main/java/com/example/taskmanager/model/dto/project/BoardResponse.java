@@ -0,0 +1,73 @@
+package com.example.taskmanager.model.dto.project;
+
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import com.example.taskmanager.model.entity.Project;
+import com.example.taskmanager.model.entity.ProjectMember;
+import com.example.taskmanager.model.entity.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class BoardResponse {
+
+    private static final List<String> COLUMNS = Arrays.asList("TODO", "DOING", "DONE");
+
+    private ProjectResponse project;
+    private List<ProjectMemberResponse> members;
+    private Map<String, List<TaskResponse>> tasks;
+    private long revision;
+
+    // Tasks arrive ordered by most recently updated first; that order is kept within each column.
+    public static BoardResponse from(Project project, List<ProjectMember> members, List<Task> tasks, long revision) {
+        Map<String, List<TaskResponse>> columns = new LinkedHashMap<>();
+        for (String column : COLUMNS) {
+            columns.put(column, new ArrayList<>());
+        }
+        for (Task task : tasks) {
+            String status = task.getStatus() != null ? task.getStatus() : COLUMNS.get(0);
+            columns.computeIfAbsent(status, key -> new ArrayList<>()).add(TaskResponse.from(task));
+        }
+
+        BoardResponse response = new BoardResponse();
+        response.setProject(ProjectResponse.from(project));
+        response.setMembers(members.stream().map(ProjectMemberResponse::from).collect(Collectors.toList()));
+        response.setTasks(columns);
+        response.setRevision(revision);
+        return response;
+    }
+
+    public ProjectResponse getProject() {
+        return project;
+    }
+
+    public void setProject(ProjectResponse project) {
+        this.project = project;
+    }
+
+    public List<ProjectMemberResponse> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<ProjectMemberResponse> members) {
+        this.members = members;
+    }
+
+    public Map<String, List<TaskResponse>> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(Map<String, List<TaskResponse>> tasks) {
+        this.tasks = tasks;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanager.model.dto.sync;
+
+import com.example.taskmanager.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque position in the change stream: everything modified after this instant is returned.
+public class SyncCursor {
+
+    private final LocalDateTime since;
+
+    public SyncCursor(LocalDateTime since) {
+        this.since = since;
+    }
+
+    public static SyncCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            return new SyncCursor(LocalDateTime.parse(raw));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.taskmanager.model.dto.sync;
+
+import com.example.taskmanager.model.dto.project.ProjectMemberResponse;
+import com.example.taskmanager.model.dto.project.ProjectResponse;
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+// Clients apply tombstones before upserts. fullResync means the payload is a complete snapshot that replaces
+// local state, either because no cursor was sent or because it predates the deletion log retention.
+public class SyncResponse {
+
+    private List<ProjectResponse> projects = new ArrayList<>();
+    private List<TaskResponse> tasks = new ArrayList<>();
+    private List<ProjectMemberResponse> members = new ArrayList<>();
+    private List<SyncTombstone> deleted = new ArrayList<>();
+    private String nextCursor;
+    private boolean fullResync;
+
+    public List<ProjectResponse> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<ProjectResponse> projects) {
+        this.projects = projects;
+    }
+
+    public List<TaskResponse> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskResponse> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<ProjectMemberResponse> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<ProjectMemberResponse> members) {
+        this.members = members;
+    }
+
+    public List<SyncTombstone> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<SyncTombstone> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isFullResync() {
+        return fullResync;
+    }
+
+    public void setFullResync(boolean fullResync) {
+        this.fullResync = fullResync;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanager.model.dto.sync;
+
+import java.time.LocalDateTime;
+
+public class SyncTombstone {
+
+    private String type;
+    private Long id;
+    private Long projectId;
+    private LocalDateTime deletedAt;
+
+    public SyncTombstone() {
+    }
+
+    public SyncTombstone(String type, Long id, Long projectId, LocalDateTime deletedAt) {
+        this.type = type;
+        this.id = id;
+        this.projectId = projectId;
+        this.deletedAt = deletedAt;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.model.dto.task;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class BatchCreateTasksRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 500)
+    private List<CreateTaskRequest> tasks;
+
+    public List<CreateTaskRequest> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<CreateTaskRequest> tasks) {
+        this.tasks = tasks;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.model.dto.task;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class BatchDeleteTasksRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<Long> ids;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanager.model.dto.task;
+
+import javax.validation.constraints.NotNull;
+
+public class BatchTaskUpdate extends UpdateTaskRequest {
+
+    @NotNull
+    private Long id;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
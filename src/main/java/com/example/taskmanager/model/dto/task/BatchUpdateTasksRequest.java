@@ -0,0 +1,22 @@
+package com.example.taskmanager.model.dto.task;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class BatchUpdateTasksRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 500)
+    private List<BatchTaskUpdate> updates;
+
+    public List<BatchTaskUpdate> getUpdates() {
+        return updates;
+    }
+
+    public void setUpdates(List<BatchTaskUpdate> updates) {
+        this.updates = updates;
+    }
+}
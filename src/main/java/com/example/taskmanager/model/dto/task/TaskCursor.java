@@ -0,0 +1,55 @@
+package com.example.taskmanager.model.dto.task;
+
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.model.entity.Task;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Keyset position in a task listing ordered by updatedAt DESC, id DESC.
+public class TaskCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime updatedAt;
+    private final Long id;
+
+    public TaskCursor(LocalDateTime updatedAt, Long id) {
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    public static TaskCursor after(Task task) {
+        return new TaskCursor(task.getUpdatedAt(), task.getId());
+    }
+
+    public static TaskCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split <= 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new TaskCursor(LocalDateTime.parse(raw.substring(0, split)), Long.valueOf(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = updatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
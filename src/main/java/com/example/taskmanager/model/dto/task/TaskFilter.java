@@ -0,0 +1,52 @@
+package com.example.taskmanager.model.dto.task;
+
+import java.time.LocalDateTime;
+
+public class TaskFilter {
+
+    private String status;
+    private Long assigneeId;
+    private String priority;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDateTime dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDateTime getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDateTime dueTo) {
+        this.dueTo = dueTo;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanager.model.dto.task;
+
+public class TaskImportError {
+
+    private long line;
+    private String message;
+
+    public TaskImportError() {
+    }
+
+    public TaskImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
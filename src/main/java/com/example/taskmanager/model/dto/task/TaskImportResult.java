@@ -0,0 +1,72 @@
+package com.example.taskmanager.model.dto.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Rows that fail validation are skipped and counted; only the first MAX_ERRORS are described.
+public class TaskImportResult {
+
+    public static final int MAX_ERRORS = 100;
+
+    private long processed;
+    private long created;
+    private long failed;
+    private List<TaskImportError> errors = new ArrayList<>();
+
+    public void addCreated(long count) {
+        processed += count;
+        created += count;
+    }
+
+    public void addError(long line, String message) {
+        processed++;
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new TaskImportError(line, message));
+        }
+    }
+
+    public void merge(TaskImportResult other) {
+        processed += other.processed;
+        created += other.created;
+        failed += other.failed;
+        for (TaskImportError error : other.errors) {
+            if (errors.size() == MAX_ERRORS) {
+                break;
+            }
+            errors.add(error);
+        }
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<TaskImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<TaskImportError> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanager.model.dto.task;
+
+import com.example.taskmanager.model.entity.Task;
+import java.util.List;
+
+public class TaskPage {
+
+    private final List<Task> tasks;
+    private final TaskCursor nextCursor;
+    private final long revision;
+
+    public TaskPage(List<Task> tasks, TaskCursor nextCursor, long revision) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+        this.revision = revision;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public TaskCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
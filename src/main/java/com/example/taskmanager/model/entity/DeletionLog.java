@@ -0,0 +1,74 @@
+package com.example.taskmanager.model.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+// Tombstone consumed by delta sync. userId is set when the row only concerns one user, e.g. a removed member
+// or a member of a deleted project, whose visibility can no longer be derived from project_members.
+@Entity
+@Table(name = "deletion_log")
+public class DeletionLog {
+
+    public static final String TYPE_TASK = "TASK";
+    public static final String TYPE_PROJECT = "PROJECT";
+    public static final String TYPE_MEMBER = "MEMBER";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Long projectId;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public DeletionLog() {
+    }
+
+    public DeletionLog(String entityType, Long entityId, Long projectId, Long userId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+        this.userId = userId;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.taskmanager.model.entity;
 
 import java.time.LocalDateTime;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -12,11 +13,19 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
-@Table(name = "project_members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
+@Table(name = "project_members",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_members_project_user",
+                columnNames = {"project_id", "user_id"}))
 public class ProjectMember {
 
     @Id
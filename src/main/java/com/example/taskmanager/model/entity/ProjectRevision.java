@@ -0,0 +1,58 @@
+package com.example.taskmanager.model.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "project_revisions")
+public class ProjectRevision {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "metadata_revision", nullable = false)
+    private long metadataRevision;
+
+    public ProjectRevision() {
+    }
+
+    public ProjectRevision(Long projectId, long revision) {
+        this(projectId, revision, 0L);
+    }
+
+    public ProjectRevision(Long projectId, long revision, long metadataRevision) {
+        this.projectId = projectId;
+        this.revision = revision;
+        this.metadataRevision = metadataRevision;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public long getMetadataRevision() {
+        return metadataRevision;
+    }
+
+    public void setMetadataRevision(long metadataRevision) {
+        this.metadataRevision = metadataRevision;
+    }
+}
@@ -1,12 +1,12 @@
 package com.example.taskmanager.model.entity;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
@@ -16,12 +16,21 @@ import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 
+import org.hibernate.annotations.GenericGenerator;
+
 @Entity
 @Table(name = "tasks")
 public class Task {
 
+    // Set from configuration at startup; entities are not Spring beans, so the window is shared statically.
+    private static volatile Duration reminderWindow = Duration.ofDays(2);
+
+    // IDENTITY forces an INSERT per persist and rules out JDBC batching. SQLite has no sequences, and a table
+    // generator needs a second connection that the single-connection writer pool cannot provide, so ids come
+    // from an in-memory counter seeded with max(id). This assumes one application process per database file.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "task-id")
+    @GenericGenerator(name = "task-id", strategy = "increment")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -77,24 +86,39 @@ public class Task {
         if (this.priority == null) {
             this.priority = "MEDIUM";
         }
-        updateDerivedFlags();
+        updateDerivedFlags(now);
     }
 
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
-        updateDerivedFlags();
+        updateDerivedFlags(this.updatedAt);
     }
 
-    private void updateDerivedFlags() {
+    public static Duration getReminderWindow() {
+        return reminderWindow;
+    }
+
+    public static void setReminderWindow(Duration window) {
+        reminderWindow = window;
+    }
+
+    // Returns whether either flag changed as of now, which also marks the entity dirty for the next flush.
+    public boolean refreshDerivedFlags(LocalDateTime now) {
+        boolean wasDueSoon = this.isDueSoon;
+        boolean wasOverdue = this.isOverdue;
+        updateDerivedFlags(now);
+        return wasDueSoon != this.isDueSoon || wasOverdue != this.isOverdue;
+    }
+
+    private void updateDerivedFlags(LocalDateTime now) {
         if (this.dueDate == null) {
             this.isDueSoon = false;
             this.isOverdue = false;
             return;
         }
-        LocalDateTime now = LocalDateTime.now();
         this.isOverdue = this.dueDate.isBefore(now);
-        this.isDueSoon = !this.isOverdue && now.plusDays(2).isAfter(this.dueDate); // TODO: externalize reminder window
+        this.isDueSoon = !this.isOverdue && now.plus(reminderWindow).isAfter(this.dueDate);
     }
 
     public Long getId() {
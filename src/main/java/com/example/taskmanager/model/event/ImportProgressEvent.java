@@ -0,0 +1,72 @@
+package com.example.taskmanager.model.event;
+
+// Sent to the importing user only, after each committed chunk (IMPORT_PROGRESS) and once at the end
+// (IMPORT_COMPLETED). Counts are cumulative.
+public class ImportProgressEvent {
+
+    private String type;
+    private Long projectId;
+    private long processed;
+    private long created;
+    private long failed;
+    private Long publishedAt;
+
+    public ImportProgressEvent() {
+    }
+
+    public ImportProgressEvent(String type, Long projectId, long processed, long created, long failed) {
+        this.type = type;
+        this.projectId = projectId;
+        this.processed = processed;
+        this.created = created;
+        this.failed = failed;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public Long getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Long publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
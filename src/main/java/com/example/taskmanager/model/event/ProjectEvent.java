@@ -5,6 +5,7 @@ public class ProjectEvent {
     private String type;
     private Long projectId;
     private Long triggeredBy;
+    private Long publishedAt;
 
     public ProjectEvent() {
     }
@@ -38,4 +39,12 @@ public class ProjectEvent {
     public void setTriggeredBy(Long triggeredBy) {
         this.triggeredBy = triggeredBy;
     }
+
+    public Long getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Long publishedAt) {
+        this.publishedAt = publishedAt;
+    }
 }
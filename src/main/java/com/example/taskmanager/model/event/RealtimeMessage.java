@@ -0,0 +1,22 @@
+package com.example.taskmanager.model.event;
+
+import java.util.List;
+
+public class RealtimeMessage {
+
+    private final List<String> destinations;
+    private final Object payload;
+
+    public RealtimeMessage(List<String> destinations, Object payload) {
+        this.destinations = destinations;
+        this.payload = payload;
+    }
+
+    public List<String> getDestinations() {
+        return destinations;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+}
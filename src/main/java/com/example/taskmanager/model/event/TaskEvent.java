@@ -1,11 +1,19 @@
 package com.example.taskmanager.model.event;
 
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import java.util.List;
+
 public class TaskEvent {
 
     private String type;
     private Long projectId;
     private Long taskId;
     private Long triggeredBy;
+    private Long version;
+    private TaskResponse task;
+    private List<TaskResponse> tasks;
+    private List<Long> deletedTaskIds;
+    private Long publishedAt;
 
     public TaskEvent() {
     }
@@ -17,6 +25,12 @@ public class TaskEvent {
         this.triggeredBy = triggeredBy;
     }
 
+    public TaskEvent(String type, Long projectId, Long taskId, Long triggeredBy, Long version, TaskResponse task) {
+        this(type, projectId, taskId, triggeredBy);
+        this.version = version;
+        this.task = task;
+    }
+
     public String getType() {
         return type;
     }
@@ -48,4 +62,44 @@ public class TaskEvent {
     public void setTriggeredBy(Long triggeredBy) {
         this.triggeredBy = triggeredBy;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public void setTask(TaskResponse task) {
+        this.task = task;
+    }
+
+    public List<TaskResponse> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskResponse> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<Long> getDeletedTaskIds() {
+        return deletedTaskIds;
+    }
+
+    public void setDeletedTaskIds(List<Long> deletedTaskIds) {
+        this.deletedTaskIds = deletedTaskIds;
+    }
+
+    public Long getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Long publishedAt) {
+        this.publishedAt = publishedAt;
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.entity.DeletionLog;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DeletionLogRepository extends JpaRepository<DeletionLog, Long> {
+
+    @Query("select d from DeletionLog d where d.deletedAt > :since"
+            + " and (d.userId = :userId or d.projectId in :projectIds) order by d.id")
+    List<DeletionLog> findVisibleSince(@Param("userId") Long userId,
+            @Param("projectIds") Collection<Long> projectIds,
+            @Param("since") LocalDateTime since);
+
+    @Query("select d from DeletionLog d where d.deletedAt > :since and d.userId = :userId order by d.id")
+    List<DeletionLog> findForUserSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from DeletionLog d where d.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
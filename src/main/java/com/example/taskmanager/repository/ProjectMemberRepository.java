@@ -1,9 +1,13 @@
 package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.entity.ProjectMember;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
 
@@ -11,8 +15,28 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
 
     List<ProjectMember> findByProjectId(Long projectId);
 
+    @Query("select m from ProjectMember m join fetch m.user where m.project.id = :projectId order by m.id")
+    List<ProjectMember> findWithUserByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select m from ProjectMember m join fetch m.user where m.project.id in :projectIds order by m.id")
+    List<ProjectMember> findWithUserByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("select m from ProjectMember m join fetch m.user"
+            + " where m.project.id in :projectIds and m.joinedAt > :since order by m.id")
+    List<ProjectMember> findWithUserJoinedSince(@Param("projectIds") Collection<Long> projectIds,
+            @Param("since") LocalDateTime since);
+
+    @Query("select m.project.id from ProjectMember m where m.user.id = :userId")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select m.user.id from ProjectMember m where m.project.id = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
     Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
 
+    @Query("select m.role from ProjectMember m where m.project.id = :projectId and m.user.id = :userId")
+    Optional<String> findRoleByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
     void deleteByProjectIdAndUserId(Long projectId, Long userId);
 
     void deleteByProjectId(Long projectId);
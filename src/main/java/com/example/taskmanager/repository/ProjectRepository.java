@@ -1,13 +1,33 @@
 package com.example.taskmanager.repository;
 
 import com.example.taskmanager.model.entity.Project;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     Optional<Project> findById(Long id);
 
     List<Project> findByOwnerId(Long ownerId);
+
+    @Query("select p from Project p join fetch p.owner where p.id = :projectId")
+    Optional<Project> findWithOwnerById(@Param("projectId") Long projectId);
+
+    @Query("select p from Project p join fetch p.owner where p.owner.id = :userId"
+            + " or p.id in (select m.project.id from ProjectMember m where m.user.id = :userId)"
+            + " order by p.id")
+    List<Project> findAllVisibleToUser(@Param("userId") Long userId);
+
+    @Query("select p from Project p join fetch p.owner where p.id in :projectIds order by p.id")
+    List<Project> findWithOwnerByIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("select p from Project p join fetch p.owner where p.id in :projectIds and p.updatedAt > :since"
+            + " order by p.id")
+    List<Project> findWithOwnerUpdatedSince(@Param("projectIds") Collection<Long> projectIds,
+            @Param("since") LocalDateTime since);
 }
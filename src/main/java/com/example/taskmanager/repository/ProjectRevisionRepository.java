@@ -0,0 +1,33 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.entity.ProjectRevision;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProjectRevisionRepository extends JpaRepository<ProjectRevision, Long> {
+
+    @Query("select r.revision from ProjectRevision r where r.projectId = :projectId")
+    Optional<Long> findRevision(@Param("projectId") Long projectId);
+
+    @Query("select r.metadataRevision from ProjectRevision r where r.projectId = :projectId")
+    Optional<Long> findMetadataRevision(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ProjectRevision r set r.revision = r.revision + 1 where r.projectId = :projectId")
+    int increment(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ProjectRevision r set r.metadataRevision = r.metadataRevision + 1 where r.projectId = :projectId")
+    int incrementMetadata(@Param("projectId") Long projectId);
+
+    // One row per project the user can see, mirroring ProjectRepository.findAllVisibleToUser.
+    @Query("select p.id, r.metadataRevision from Project p left join ProjectRevision r on r.projectId = p.id"
+            + " where p.owner.id = :userId"
+            + " or p.id in (select m.project.id from ProjectMember m where m.user.id = :userId)"
+            + " order by p.id")
+    List<Object[]> findMetadataRevisionsVisibleToUser(@Param("userId") Long userId);
+}
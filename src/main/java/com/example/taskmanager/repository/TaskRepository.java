@@ -1,16 +1,61 @@
 package com.example.taskmanager.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.taskmanager.model.entity.Task;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-
-    // TODO: add query methods for filtering by status, priority, and due dates
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
     List<Task> findByProjectId(Long projectId);
 
+    @Query("select t from Task t left join fetch t.assignee where t.id = :taskId")
+    Optional<Task> findWithAssigneeById(@Param("taskId") Long taskId);
+
+    @Query("select t from Task t join fetch t.project left join fetch t.assignee where t.id in :taskIds")
+    List<Task> findAllWithAssigneeByIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // Tasks whose due date crossed a threshold in [from, now): the overdue boundary or the start of the
+    // reminder window. Rows whose flags are already right are skipped, so overlapping ranges cost nothing.
+    // Both due-flag queries page by id after afterId, so a row whose flags a flush recomputes against a later
+    // clock is not fetched again in the same run.
+    @Query("select t from Task t join fetch t.project left join fetch t.assignee"
+            + " where t.id > :afterId and ("
+            + " (t.dueDate >= :from and t.dueDate < :now and t.isOverdue = false)"
+            + " or (t.dueDate >= :soonFrom and t.dueDate < :soonTo and t.isDueSoon = false and t.isOverdue = false))"
+            + " order by t.id")
+    List<Task> findCrossingDueThresholds(@Param("from") LocalDateTime from, @Param("now") LocalDateTime now,
+            @Param("soonFrom") LocalDateTime soonFrom, @Param("soonTo") LocalDateTime soonTo,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select t from Task t join fetch t.project left join fetch t.assignee"
+            + " where t.id > :afterId and t.dueDate is not null and ("
+            + " (t.dueDate < :now and (t.isOverdue = false or t.isDueSoon = true))"
+            + " or (t.dueDate >= :now and t.isOverdue = true)"
+            + " or (t.dueDate >= :now and t.dueDate < :soonTo and t.isDueSoon = false)"
+            + " or (t.dueDate >= :soonTo and t.isDueSoon = true))"
+            + " order by t.id")
+    List<Task> findStaleDueFlags(@Param("now") LocalDateTime now, @Param("soonTo") LocalDateTime soonTo,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select t from Task t left join fetch t.assignee where t.project.id = :projectId"
+            + " order by t.updatedAt desc, t.id desc")
+    List<Task> findBoardTasks(@Param("projectId") Long projectId);
+
+    @Query("select t from Task t left join fetch t.assignee where t.project.id in :projectIds order by t.id")
+    List<Task> findWithAssigneeByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("select t from Task t left join fetch t.assignee"
+            + " where t.project.id in :projectIds and t.updatedAt > :since order by t.updatedAt, t.id")
+    List<Task> findWithAssigneeUpdatedSince(@Param("projectIds") Collection<Long> projectIds,
+            @Param("since") LocalDateTime since);
+
     void deleteByProjectId(Long projectId);
 }
@@ -0,0 +1,19 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.dto.task.TaskCursor;
+import com.example.taskmanager.model.dto.task.TaskFilter;
+import com.example.taskmanager.model.entity.Task;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TaskRepositoryCustom {
+
+    List<Task> findPage(Long projectId, TaskFilter filter, TaskCursor after, int limit);
+
+    List<Long> searchIds(Long userId, String matchExpression, int limit);
+
+    void forEachInProject(Long projectId, int fetchSize, Consumer<Task> action);
+
+    void detachAll(Collection<Task> tasks);
+}
@@ -0,0 +1,120 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.dto.task.TaskCursor;
+import com.example.taskmanager.model.dto.task.TaskFilter;
+import com.example.taskmanager.model.entity.Task;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPage(Long projectId, TaskFilter filter, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        // Only bind predicates that are actually present so SQLite can pick the project index.
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("project").get("id"), projectId));
+        if (filter != null) {
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(task.get("status"), filter.getStatus()));
+            }
+            if (filter.getAssigneeId() != null) {
+                predicates.add(cb.equal(task.get("assignee").get("id"), filter.getAssigneeId()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(task.get("priority"), filter.getPriority()));
+            }
+            if (filter.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(task.<LocalDateTime>get("dueDate"), filter.getDueFrom()));
+            }
+            if (filter.getDueTo() != null) {
+                predicates.add(cb.lessThan(task.<LocalDateTime>get("dueDate"), filter.getDueTo()));
+            }
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(task.<LocalDateTime>get("updatedAt"), after.getUpdatedAt()),
+                    cb.and(
+                            cb.equal(task.<LocalDateTime>get("updatedAt"), after.getUpdatedAt()),
+                            cb.lessThan(task.<Long>get("id"), after.getId()))));
+        }
+
+        task.fetch("assignee", JoinType.LEFT);
+        query.select(task)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(task.get("updatedAt")), cb.desc(task.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Ranks inside FTS5 with the bm25 weights configured on the index and only then joins tasks,
+    // keeping rows from projects the caller is not a member of out of the result.
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> searchIds(Long userId, String matchExpression, int limit) {
+        List<Number> ids = entityManager.createNativeQuery(
+                "select t.id from tasks_fts join tasks t on t.id = tasks_fts.rowid"
+                        + " where tasks_fts match ?1"
+                        + " and t.project_id in (select m.project_id from project_members m where m.user_id = ?2)"
+                        + " order by tasks_fts.rank limit ?3")
+                .setParameter(1, matchExpression)
+                .setParameter(2, userId)
+                .setParameter(3, limit)
+                .getResultList();
+        List<Long> result = new ArrayList<>(ids.size());
+        for (Number id : ids) {
+            result.add(id.longValue());
+        }
+        return result;
+    }
+
+    // Walks a forward-only cursor instead of materializing the list. Each task is handed to the action and then
+    // evicted, so the persistence context only ever holds the current row plus the project's assignees.
+    @Override
+    public void forEachInProject(Long projectId, int fetchSize, Consumer<Task> action) {
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults results = session.createQuery(
+                "select t from Task t left join fetch t.assignee where t.project.id = :projectId order by t.id",
+                Task.class)
+                .setParameter("projectId", projectId)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Task task = (Task) results.get(0);
+                action.accept(task);
+                session.evict(task);
+            }
+        }
+    }
+
+    // Pending changes are lost on detach, so callers flush first.
+    @Override
+    public void detachAll(Collection<Task> tasks) {
+        for (Task task : tasks) {
+            entityManager.detach(task);
+        }
+    }
+}
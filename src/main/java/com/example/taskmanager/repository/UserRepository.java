@@ -1,14 +1,25 @@
 package com.example.taskmanager.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.example.taskmanager.model.entity.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Login and member invitations look users up by name; the query cache keeps the id until the users table
+    // changes, and the entity itself then comes from the second-level cache.
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<User> findByUsername(String username);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<User> findByEmail(String email);
+
+    List<User> findByUsernameIn(Collection<String> usernames);
 }
@@ -16,9 +16,11 @@ import com.example.taskmanager.model.entity.User;
 public class AuthService {
 
     private final UserService userService;
+    private final UserDirectory userDirectory;
 
-    public AuthService(UserService userService) {
+    public AuthService(UserService userService, UserDirectory userDirectory) {
         this.userService = userService;
+        this.userDirectory = userDirectory;
     }
 
     @Transactional
@@ -29,7 +31,9 @@ public class AuthService {
         user.setEmail(email.trim().toLowerCase());
         user.setPasswordHash(hashPassword(rawPassword));
         user.setStatus("ACTIVE");
-        return userService.save(user);
+        User saved = userService.save(user);
+        userDirectory.add(saved);
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,72 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.entity.DeletionLog;
+import com.example.taskmanager.repository.DeletionLogRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class DeletionLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletionLogService.class);
+
+    private final DeletionLogRepository deletionLogRepository;
+    private final Duration retention;
+
+    public DeletionLogService(DeletionLogRepository deletionLogRepository,
+            @Value("${taskmanager.sync.deletion-retention-days:30}") long retentionDays) {
+        this.deletionLogRepository = deletionLogRepository;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    @Transactional
+    public void recordTaskDeleted(Long projectId, Long taskId) {
+        deletionLogRepository.save(new DeletionLog(DeletionLog.TYPE_TASK, taskId, projectId, null));
+    }
+
+    @Transactional
+    public void recordTasksDeleted(Long projectId, Collection<Long> taskIds) {
+        List<DeletionLog> rows = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            rows.add(new DeletionLog(DeletionLog.TYPE_TASK, taskId, projectId, null));
+        }
+        deletionLogRepository.saveAll(rows);
+    }
+
+    @Transactional
+    public void recordMemberRemoved(Long projectId, Long userId) {
+        deletionLogRepository.save(new DeletionLog(DeletionLog.TYPE_MEMBER, userId, projectId, userId));
+    }
+
+    // One row per former member: once the membership rows are gone nothing else ties the project to them.
+    @Transactional
+    public void recordProjectDeleted(Long projectId, Collection<Long> memberIds) {
+        List<DeletionLog> rows = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            rows.add(new DeletionLog(DeletionLog.TYPE_PROJECT, projectId, projectId, memberId));
+        }
+        deletionLogRepository.saveAll(rows);
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.sync.prune-interval-millis:3600000}")
+    @Transactional
+    public void prune() {
+        int removed = deletionLogRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.info("Pruned {} deletion log entries older than {}", removed, retention);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.entity.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Keeps isDueSoon/isOverdue current for tasks nobody edits. The first run reconciles every task with stale
+// flags; later runs only scan the due-date ranges crossed since the previous run.
+@Component
+public class DueFlagScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DueFlagScheduler.class);
+
+    // Steps the lower bound back so a task written by a transaction still in flight during the last run is
+    // looked at again; rows whose flags are already right are filtered out by the query.
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    private final TaskService taskService;
+    private final int chunkSize;
+    private final Counter scanned;
+    private LocalDateTime lastRun;
+
+    public DueFlagScheduler(TaskService taskService,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.due-flags.reminder-window-hours:48}") long reminderWindowHours,
+            @Value("${taskmanager.due-flags.chunk-size:500}") int chunkSize) {
+        this.taskService = taskService;
+        this.chunkSize = chunkSize;
+        this.scanned = meterRegistry.counter("tasks.due.flags.scanned");
+        Task.setReminderWindow(Duration.ofHours(reminderWindowHours));
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.due-flags.refresh-interval-millis:60000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = lastRun == null ? null : lastRun.minus(OVERLAP);
+        int total = 0;
+        long afterId = 0;
+        TaskService.DueFlagRefresh chunk;
+        // Each chunk commits on its own so the single writer connection is never held for long. Paging by id means
+        // a run visits each task at most once, even if a row still matches after its flags were written.
+        do {
+            chunk = taskService.refreshDueFlags(from, now, afterId, chunkSize);
+            total += chunk.getScanned();
+            afterId = chunk.getLastId();
+        } while (chunk.getScanned() == chunkSize);
+        lastRun = now;
+        scanned.increment(total);
+        if (total > 0) {
+            log.debug("Refreshed due flags on {} tasks", total);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.repository.ProjectMemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Caches the role (or absence) of a user in a project. Non-members are cached too, so repeated
+// unauthorized calls do not reach the database either. A loaded value is only cached if it was read from a snapshot
+// no older than the lookup and no invalidation ran while it was loading, so a removed member loses access as soon
+// as the removal commits.
+@Component
+public class MembershipCache {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TransactionTemplate lookupTransaction;
+    private final Cache<Key, Optional<String>> cache;
+    private final Object lock = new Object();
+    private long invalidations;
+
+    public MembershipCache(ProjectMemberRepository projectMemberRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.membership-cache.max-size:10000}") long maxSize,
+            @Value("${taskmanager.membership-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.projectMemberRepository = projectMemberRepository;
+        // Not read-only on purpose: it routes to the writer, which always sees the latest commit and is never held
+        // by a thread waiting for a reader, so a burst of misses from read transactions cannot drain the reader pool.
+        this.lookupTransaction = new TransactionTemplate(transactionManager);
+        this.lookupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.membership");
+    }
+
+    // Loads outside the cache's own locking, which would otherwise be held while waiting for a connection.
+    public Optional<String> role(Long projectId, Long userId) {
+        Key key = new Key(projectId, userId);
+        Optional<String> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen;
+        synchronized (lock) {
+            seen = invalidations;
+        }
+        Optional<String> loaded = load(key);
+        synchronized (lock) {
+            if (seen == invalidations) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public boolean isMember(Long projectId, Long userId) {
+        return role(projectId, userId).isPresent();
+    }
+
+    public void invalidate(Long projectId, Long userId) {
+        invalidate(projectId, Collections.singletonList(userId));
+    }
+
+    // Eviction runs once the surrounding transaction completes, committed or not: evicting earlier would let a
+    // concurrent reader re-cache the pre-commit state, and a rollback must drop anything loaded from it.
+    public void invalidate(Long projectId, Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(projectId, userIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(projectId, userIds);
+            }
+        });
+    }
+
+    // A read-write transaction runs on the single writer connection, which already sees every commit and its own
+    // changes. Anything else may sit on a reader snapshot taken before a removal committed, so the lookup gets a
+    // transaction of its own.
+    private Optional<String> load(Key key) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return projectMemberRepository.findRoleByProjectIdAndUserId(key.projectId, key.userId);
+        }
+        return lookupTransaction.execute(
+                status -> projectMemberRepository.findRoleByProjectIdAndUserId(key.projectId, key.userId));
+    }
+
+    private void evict(Long projectId, Collection<Long> userIds) {
+        synchronized (lock) {
+            invalidations++;
+            for (Long userId : userIds) {
+                cache.invalidate(new Key(projectId, userId));
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final Long projectId;
+        private final Long userId;
+
+        private Key(Long projectId, Long userId) {
+            this.projectId = projectId;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(projectId, other.projectId) && Objects.equals(userId, other.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, userId);
+        }
+    }
+}
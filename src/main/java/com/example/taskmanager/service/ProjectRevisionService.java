@@ -0,0 +1,70 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.entity.ProjectRevision;
+import com.example.taskmanager.repository.ProjectRevisionRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+// Monotonic per-project counters; each increment is a single UPDATE so concurrent writers never reuse a value.
+// "revision" advances with every task change, "metadataRevision" with the project's fields and membership.
+// Together they version every representation of a project, which is what the HTTP ETags are built from.
+@Service
+public class ProjectRevisionService {
+
+    private final ProjectRevisionRepository projectRevisionRepository;
+
+    public ProjectRevisionService(ProjectRevisionRepository projectRevisionRepository) {
+        this.projectRevisionRepository = projectRevisionRepository;
+    }
+
+    @Transactional
+    public long next(Long projectId) {
+        if (projectRevisionRepository.increment(projectId) == 0) {
+            projectRevisionRepository.save(new ProjectRevision(projectId, 1L));
+            return 1L;
+        }
+        return current(projectId);
+    }
+
+    @Transactional
+    public long nextMetadata(Long projectId) {
+        if (projectRevisionRepository.incrementMetadata(projectId) == 0) {
+            projectRevisionRepository.save(new ProjectRevision(projectId, 0L, 1L));
+            return 1L;
+        }
+        return projectRevisionRepository.findMetadataRevision(projectId).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public long current(Long projectId) {
+        return projectRevisionRepository.findRevision(projectId).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectRevision snapshot(Long projectId) {
+        return projectRevisionRepository.findById(projectId).orElse(new ProjectRevision(projectId, 0L));
+    }
+
+    // Fingerprint of the project list a user sees: it changes when a project is added to or dropped from the
+    // list, or when one of them is edited or changes members.
+    @Transactional(readOnly = true)
+    public String projectListVersion(Long userId) {
+        StringBuilder versions = new StringBuilder();
+        List<Object[]> rows = projectRevisionRepository.findMetadataRevisionsVisibleToUser(userId);
+        for (Object[] row : rows) {
+            versions.append(row[0]).append(':').append(row[1] != null ? row[1] : 0L).append(';');
+        }
+        return DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Project ids can be reused by SQLite, so the counters of a deleted project are advanced rather than
+    // removed: a representation cached under the old ids then never validates against a new project.
+    @Transactional
+    public void retire(Long projectId) {
+        next(projectId);
+        nextMetadata(projectId);
+    }
+}
@@ -2,8 +2,10 @@ package com.example.taskmanager.service;
 
 import com.example.taskmanager.exception.BadRequestException;
 import com.example.taskmanager.exception.NotFoundException;
+import com.example.taskmanager.model.dto.project.BoardResponse;
 import com.example.taskmanager.model.entity.Project;
 import com.example.taskmanager.model.entity.ProjectMember;
+import com.example.taskmanager.model.entity.ProjectRevision;
 import com.example.taskmanager.model.entity.User;
 import com.example.taskmanager.model.event.ProjectEvent;
 import com.example.taskmanager.repository.TaskRepository;
@@ -11,12 +13,10 @@ import com.example.taskmanager.repository.ProjectMemberRepository;
 import com.example.taskmanager.repository.ProjectRepository;
 import com.example.taskmanager.repository.UserRepository;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,18 +30,27 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final TaskRepository taskRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final MembershipCache membershipCache;
+    private final DeletionLogService deletionLogService;
+    private final ProjectRevisionService projectRevisionService;
+    private final RealtimePublisher realtimePublisher;
 
     public ProjectService(UserRepository userRepository,
             ProjectRepository projectRepository,
             ProjectMemberRepository projectMemberRepository,
             TaskRepository taskRepository,
-            SimpMessagingTemplate messagingTemplate) {
+            MembershipCache membershipCache,
+            DeletionLogService deletionLogService,
+            ProjectRevisionService projectRevisionService,
+            RealtimePublisher realtimePublisher) {
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
         this.taskRepository = taskRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.membershipCache = membershipCache;
+        this.deletionLogService = deletionLogService;
+        this.projectRevisionService = projectRevisionService;
+        this.realtimePublisher = realtimePublisher;
     }
 
     @Transactional
@@ -61,14 +70,17 @@ public class ProjectService {
         ownerMember.setRole(ROLE_OWNER);
         ownerMember.setJoinedAt(LocalDateTime.now());
         projectMemberRepository.save(ownerMember);
+        membershipCache.invalidate(savedProject.getId(), currentUserId);
+        projectRevisionService.nextMetadata(savedProject.getId());
 
-        publishProjectEvent("PROJECT_CREATED", savedProject.getId(), currentUserId);
+        publishProjectEvent("PROJECT_CREATED", savedProject.getId(), currentUserId,
+                Collections.singletonList(currentUserId));
         return savedProject;
     }
 
     @Transactional(readOnly = true)
     public Project getById(Long projectId) {
-        return projectRepository.findById(projectId)
+        return projectRepository.findWithOwnerById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found"));
     }
 
@@ -77,15 +89,26 @@ public class ProjectService {
         userRepository.findById(currentUserId)
                 .orElseThrow(() -> new NotFoundException("User not found"));
 
-        Map<Long, Project> projects = new LinkedHashMap<>();
-        projectRepository.findByOwnerId(currentUserId)
-                .forEach(project -> projects.put(project.getId(), project));
+        return projectRepository.findAllVisibleToUser(currentUserId);
+    }
 
-        projectMemberRepository.findByUserId(currentUserId).stream()
-                .map(ProjectMember::getProject)
-                .forEach(project -> projects.put(project.getId(), project));
+    @Transactional(readOnly = true)
+    public String getProjectListVersion(Long currentUserId) {
+        userRepository.findById(currentUserId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
 
-        return new ArrayList<>(projects.values());
+        return projectRevisionService.projectListVersion(currentUserId);
+    }
+
+    // The checks of listMembers/getBoard without their queries, so unchanged data can be answered with a 304.
+    @Transactional(readOnly = true)
+    public ProjectRevision getRevisions(Long currentUserId, Long projectId) {
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+        if (!membershipCache.isMember(projectId, currentUserId)) {
+            throw new BadRequestException("User is not a member of this project");
+        }
+        return projectRevisionService.snapshot(projectId);
     }
 
     @Transactional
@@ -93,20 +116,19 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found"));
 
-        ProjectMember currentMembership = projectMemberRepository.findByProjectIdAndUserId(projectId, currentUserId)
+        String currentRole = membershipCache.role(projectId, currentUserId)
                 .orElseThrow(() -> new BadRequestException("Only project owner can add members"));
 
-        if (!ROLE_OWNER.equalsIgnoreCase(currentMembership.getRole())) {
+        if (!ROLE_OWNER.equalsIgnoreCase(currentRole)) {
             throw new BadRequestException("Only project owner can add members");
         }
 
         User targetUser = findUserByUsernameOrEmailOrId(usernameOrEmail)
                 .orElseThrow(() -> new NotFoundException("Target user not found"));
 
-        projectMemberRepository.findByProjectIdAndUserId(projectId, targetUser.getId())
-                .ifPresent(existing -> {
-                    throw new BadRequestException("User is already a member of this project");
-                });
+        if (membershipCache.isMember(projectId, targetUser.getId())) {
+            throw new BadRequestException("User is already a member of this project");
+        }
 
         ProjectMember newMember = new ProjectMember();
         newMember.setProject(project);
@@ -114,7 +136,10 @@ public class ProjectService {
         newMember.setRole(ROLE_MEMBER);
         newMember.setJoinedAt(LocalDateTime.now());
         ProjectMember saved = projectMemberRepository.save(newMember);
-        publishProjectEvent("PROJECT_MEMBER_ADDED", projectId, currentUserId);
+        membershipCache.invalidate(projectId, targetUser.getId());
+        projectRevisionService.nextMetadata(projectId);
+        publishProjectEvent("PROJECT_MEMBER_ADDED", projectId, currentUserId,
+                projectMemberRepository.findUserIdsByProjectId(projectId));
         return saved;
     }
 
@@ -122,9 +147,25 @@ public class ProjectService {
     public List<ProjectMember> listMembers(Long currentUserId, Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found"));
-        projectMemberRepository.findByProjectIdAndUserId(projectId, currentUserId)
-                .orElseThrow(() -> new BadRequestException("User is not a member of this project"));
-        return projectMemberRepository.findByProjectId(project.getId());
+        if (!membershipCache.isMember(projectId, currentUserId)) {
+            throw new BadRequestException("User is not a member of this project");
+        }
+        return projectMemberRepository.findWithUserByProjectId(project.getId());
+    }
+
+    // Everything the desktop board renders, read in one transaction so members, tasks and revision agree.
+    @Transactional(readOnly = true)
+    public BoardResponse getBoard(Long currentUserId, Long projectId) {
+        Project project = projectRepository.findWithOwnerById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+        if (!membershipCache.isMember(projectId, currentUserId)) {
+            throw new BadRequestException("User is not a member of this project");
+        }
+        long revision = projectRevisionService.current(projectId);
+        return BoardResponse.from(project,
+                projectMemberRepository.findWithUserByProjectId(projectId),
+                taskRepository.findBoardTasks(projectId),
+                revision);
     }
 
     private Optional<User> findUserByUsernameOrEmailOrId(String usernameOrEmail) {
@@ -165,12 +206,19 @@ public class ProjectService {
             throw new BadRequestException("Cannot remove project owner");
         }
 
-        projectMemberRepository.findByProjectIdAndUserId(projectId, userIdToRemove)
-                .orElseThrow(() -> new NotFoundException("User is not a member of this project"));
+        if (!membershipCache.isMember(projectId, userIdToRemove)) {
+            throw new NotFoundException("User is not a member of this project");
+        }
+
+        // The removed user is still part of the audience so their project list drops the project.
+        List<Long> audience = projectMemberRepository.findUserIdsByProjectId(projectId);
 
         // TODO: if tasks assigned to this user in the project, consider unassigning them.
         projectMemberRepository.deleteByProjectIdAndUserId(projectId, userIdToRemove);
-        publishProjectEvent("PROJECT_MEMBER_REMOVED", projectId, currentUserId);
+        membershipCache.invalidate(projectId, userIdToRemove);
+        projectRevisionService.nextMetadata(projectId);
+        deletionLogService.recordMemberRemoved(projectId, userIdToRemove);
+        publishProjectEvent("PROJECT_MEMBER_REMOVED", projectId, currentUserId, audience);
     }
 
     @Transactional
@@ -182,11 +230,16 @@ public class ProjectService {
             throw new BadRequestException("Only project owner can delete project");
         }
 
+        List<Long> audience = projectMemberRepository.findUserIdsByProjectId(projectId);
+
         // Delete related entities in order to avoid FK issues: tasks -> members -> project
         taskRepository.deleteByProjectId(projectId);
         projectMemberRepository.deleteByProjectId(projectId);
         projectRepository.delete(project);
-        publishProjectEvent("PROJECT_DELETED", projectId, currentUserId);
+        projectRevisionService.retire(projectId);
+        membershipCache.invalidate(projectId, audience);
+        deletionLogService.recordProjectDeleted(projectId, audience);
+        publishProjectEvent("PROJECT_DELETED", projectId, currentUserId, audience);
     }
 
     @Transactional
@@ -194,7 +247,7 @@ public class ProjectService {
         if (name == null || name.trim().isEmpty()) {
             throw new BadRequestException("Project name is required");
         }
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findWithOwnerById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found"));
         if (!project.getOwner().getId().equals(currentUserId)) {
             throw new BadRequestException("Only project owner can update project");
@@ -202,13 +255,13 @@ public class ProjectService {
         project.setName(name.trim());
         project.setDescription(description);
         Project updated = projectRepository.save(project);
-        publishProjectEvent("PROJECT_UPDATED", projectId, currentUserId);
+        projectRevisionService.nextMetadata(projectId);
+        publishProjectEvent("PROJECT_UPDATED", projectId, currentUserId,
+                projectMemberRepository.findUserIdsByProjectId(projectId));
         return updated;
     }
 
-    private void publishProjectEvent(String type, Long projectId, Long triggeredBy) {
-        if (messagingTemplate != null) {
-            messagingTemplate.convertAndSend("/topic/projects", new ProjectEvent(type, projectId, triggeredBy));
-        }
+    private void publishProjectEvent(String type, Long projectId, Long triggeredBy, Collection<Long> audience) {
+        realtimePublisher.publishProjectEvent(new ProjectEvent(type, projectId, triggeredBy), audience);
     }
 }
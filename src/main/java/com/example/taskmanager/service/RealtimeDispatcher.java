@@ -0,0 +1,120 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.event.RealtimeMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class RealtimeDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(RealtimeDispatcher.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpleBrokerMessageHandler broker;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter dispatched;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer queueWait;
+    private final Timer sendTime;
+
+    public RealtimeDispatcher(SimpMessagingTemplate messagingTemplate,
+            @Qualifier("realtimeDispatchExecutor") ThreadPoolTaskExecutor executor,
+            @Qualifier("simpleBrokerMessageHandler") ObjectProvider<AbstractBrokerMessageHandler> broker,
+            MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        AbstractBrokerMessageHandler handler = broker.getIfAvailable();
+        this.broker = handler instanceof SimpleBrokerMessageHandler ? (SimpleBrokerMessageHandler) handler : null;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        this.dispatched = meterRegistry.counter("realtime.dispatch.messages", "outcome", "sent");
+        this.rejected = meterRegistry.counter("realtime.dispatch.messages", "outcome", "rejected");
+        this.failed = meterRegistry.counter("realtime.dispatch.messages", "outcome", "failed");
+        this.queueWait = meterRegistry.timer("realtime.dispatch.queue.wait");
+        this.sendTime = meterRegistry.timer("realtime.dispatch.send");
+        Gauge.builder("realtime.dispatch.queue.size", executor,
+                e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    // Runs after commit so subscribers that refetch never observe pre-commit state; the send itself
+    // happens off the request thread so HTTP latency does not grow with the number of subscribers.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRealtimeMessage(RealtimeMessage message) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> send(message, enqueuedAt));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Realtime dispatch queue full, dropping {} to {}",
+                    message.getPayload().getClass().getSimpleName(), message.getDestinations());
+        }
+    }
+
+    private void send(RealtimeMessage message, long enqueuedAt) {
+        queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        long start = System.nanoTime();
+        for (String destination : message.getDestinations()) {
+            String topic = topicKind(destination);
+            try {
+                recordFanOut(destination, topic);
+                long publishStart = System.nanoTime();
+                messagingTemplate.convertAndSend(destination, message.getPayload());
+                meterRegistry.timer("realtime.publish", "topic", topic)
+                        .record(System.nanoTime() - publishStart, TimeUnit.NANOSECONDS);
+                dispatched.increment();
+            } catch (RuntimeException ex) {
+                failed.increment();
+                log.warn("Failed to publish realtime message to {}", destination, ex);
+            }
+        }
+        sendTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // The simple broker has no principals to count in SimpUserRegistry, so the fan-out is read from the
+    // broker's own subscription registry, which caches lookups per destination.
+    private void recordFanOut(String destination, String topic) {
+        if (broker == null) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        Message<byte[]> probe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        int subscribers = broker.getSubscriptionRegistry().findSubscriptions(probe).size();
+        DistributionSummary.builder("realtime.fanout")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .record(subscribers);
+    }
+
+    private String topicKind(String destination) {
+        if (destination.endsWith("/tasks")) {
+            return "tasks";
+        }
+        if (destination.endsWith("/projects")) {
+            return "projects";
+        }
+        return destination.endsWith("/imports") ? "imports" : "other";
+    }
+}
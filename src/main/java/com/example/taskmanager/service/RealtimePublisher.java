@@ -0,0 +1,57 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.event.ImportProgressEvent;
+import com.example.taskmanager.model.event.ProjectEvent;
+import com.example.taskmanager.model.event.RealtimeMessage;
+import com.example.taskmanager.model.event.TaskEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Events are only handed to the broker by RealtimeDispatcher once the surrounding transaction commits.
+@Component
+public class RealtimePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RealtimePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public static String projectTasksTopic(Long projectId) {
+        return "/topic/projects/" + projectId + "/tasks";
+    }
+
+    public static String userProjectsTopic(Long userId) {
+        return "/topic/users/" + userId + "/projects";
+    }
+
+    public static String userImportsTopic(Long userId) {
+        return "/topic/users/" + userId + "/imports";
+    }
+
+    // publishedAt (epoch millis) lets clients measure delivery lag, including the wait for commit and dispatch.
+    public void publishTaskEvent(TaskEvent event) {
+        event.setPublishedAt(System.currentTimeMillis());
+        eventPublisher.publishEvent(new RealtimeMessage(
+                Collections.singletonList(projectTasksTopic(event.getProjectId())), event));
+    }
+
+    // Project list changes go to each affected user's own topic, so fan-out is bounded by the project audience.
+    public void publishProjectEvent(ProjectEvent event, Collection<Long> audienceUserIds) {
+        event.setPublishedAt(System.currentTimeMillis());
+        List<String> destinations = new ArrayList<>(audienceUserIds.size());
+        for (Long userId : audienceUserIds) {
+            destinations.add(userProjectsTopic(userId));
+        }
+        eventPublisher.publishEvent(new RealtimeMessage(destinations, event));
+    }
+
+    public void publishImportProgress(ImportProgressEvent event, Long userId) {
+        event.setPublishedAt(System.currentTimeMillis());
+        eventPublisher.publishEvent(new RealtimeMessage(Collections.singletonList(userImportsTopic(userId)), event));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.exception.NotFoundException;
+import com.example.taskmanager.model.entity.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SearchService {
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+
+    public SearchService(UserRepository userRepository, TaskRepository taskRepository) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> searchTasks(Long currentUserId, String query, int limit) {
+        userRepository.findById(currentUserId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
+
+        List<Long> ids = taskRepository.searchIds(currentUserId, toMatchExpression(query), limit);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Task> tasksById = new HashMap<>();
+        for (Task task : taskRepository.findAllWithAssigneeByIdIn(ids)) {
+            tasksById.put(task.getId(), task);
+        }
+        List<Task> ranked = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = tasksById.get(id);
+            if (task != null) {
+                ranked.add(task);
+            }
+        }
+        return ranked;
+    }
+
+    // Every word becomes a quoted FTS5 string so user input can never be parsed as query syntax;
+    // a trailing '*' turns the word into a prefix match. Words are ANDed.
+    static String toMatchExpression(String query) {
+        StringBuilder expression = new StringBuilder();
+        if (query != null) {
+            for (String word : query.trim().split("\\s+")) {
+                boolean prefix = word.endsWith("*");
+                String term = word.replace("*", "").replace("\"", "");
+                if (term.isEmpty()) {
+                    continue;
+                }
+                if (expression.length() > 0) {
+                    expression.append(' ');
+                }
+                expression.append('"').append(term).append('"');
+                if (prefix) {
+                    expression.append('*');
+                }
+            }
+        }
+        if (expression.length() == 0) {
+            throw new BadRequestException("q must contain at least one search term");
+        }
+        return expression.toString();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.NotFoundException;
+import com.example.taskmanager.model.dto.project.ProjectMemberResponse;
+import com.example.taskmanager.model.dto.project.ProjectResponse;
+import com.example.taskmanager.model.dto.sync.SyncCursor;
+import com.example.taskmanager.model.dto.sync.SyncResponse;
+import com.example.taskmanager.model.dto.sync.SyncTombstone;
+import com.example.taskmanager.model.dto.task.TaskResponse;
+import com.example.taskmanager.model.entity.DeletionLog;
+import com.example.taskmanager.model.entity.Project;
+import com.example.taskmanager.model.entity.ProjectMember;
+import com.example.taskmanager.model.entity.Task;
+import com.example.taskmanager.repository.DeletionLogRepository;
+import com.example.taskmanager.repository.ProjectMemberRepository;
+import com.example.taskmanager.repository.ProjectRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SyncService {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final DeletionLogRepository deletionLogRepository;
+    private final DeletionLogService deletionLogService;
+    private final Duration overlap;
+
+    public SyncService(UserRepository userRepository,
+            ProjectRepository projectRepository,
+            ProjectMemberRepository projectMemberRepository,
+            TaskRepository taskRepository,
+            DeletionLogRepository deletionLogRepository,
+            DeletionLogService deletionLogService,
+            @Value("${taskmanager.sync.overlap-millis:2000}") long overlapMillis) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.taskRepository = taskRepository;
+        this.deletionLogRepository = deletionLogRepository;
+        this.deletionLogService = deletionLogService;
+        this.overlap = Duration.ofMillis(overlapMillis);
+    }
+
+    @Transactional(readOnly = true)
+    public SyncResponse changesSince(Long currentUserId, SyncCursor cursor) {
+        userRepository.findById(currentUserId)
+                .orElseThrow(() -> new NotFoundException("User not found"));
+
+        // updatedAt is stamped before commit, so the next cursor steps back far enough to cover writes that were
+        // still in flight when this snapshot was taken. Clients upsert, so the overlap is harmless.
+        LocalDateTime now = LocalDateTime.now();
+        SyncResponse response = new SyncResponse();
+        response.setNextCursor(new SyncCursor(now.minus(overlap)).encode());
+
+        List<Long> projectIds = projectMemberRepository.findProjectIdsByUserId(currentUserId);
+        boolean fullResync = cursor == null
+                || cursor.getSince().isBefore(now.minus(deletionLogService.getRetention()));
+        response.setFullResync(fullResync);
+
+        if (fullResync) {
+            if (!projectIds.isEmpty()) {
+                addProjects(response, projectRepository.findWithOwnerByIdIn(projectIds));
+                addTasks(response, taskRepository.findWithAssigneeByProjectIdIn(projectIds));
+                addMembers(response, projectMemberRepository.findWithUserByProjectIdIn(projectIds));
+            }
+            return response;
+        }
+
+        LocalDateTime since = cursor.getSince();
+        List<DeletionLog> deletions = projectIds.isEmpty()
+                ? deletionLogRepository.findForUserSince(currentUserId, since)
+                : deletionLogRepository.findVisibleSince(currentUserId, projectIds, since);
+        response.setDeleted(deletions.stream()
+                .map(entry -> toTombstone(entry, currentUserId))
+                .collect(Collectors.toList()));
+        if (projectIds.isEmpty()) {
+            return response;
+        }
+
+        // Projects the user joined since the cursor have never been synced, so they are sent in full.
+        List<ProjectMember> newMembers = projectMemberRepository.findWithUserJoinedSince(projectIds, since);
+        Set<Long> joinedProjectIds = new HashSet<>();
+        for (ProjectMember member : newMembers) {
+            if (member.getUser().getId().equals(currentUserId)) {
+                joinedProjectIds.add(member.getProject().getId());
+            }
+        }
+
+        Map<Long, Project> projects = new LinkedHashMap<>();
+        for (Project project : projectRepository.findWithOwnerUpdatedSince(projectIds, since)) {
+            projects.put(project.getId(), project);
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (Task task : taskRepository.findWithAssigneeUpdatedSince(projectIds, since)) {
+            if (!joinedProjectIds.contains(task.getProject().getId())) {
+                tasks.add(task);
+            }
+        }
+        List<ProjectMember> members = new ArrayList<>();
+        for (ProjectMember member : newMembers) {
+            if (!joinedProjectIds.contains(member.getProject().getId())) {
+                members.add(member);
+            }
+        }
+        if (!joinedProjectIds.isEmpty()) {
+            for (Project project : projectRepository.findWithOwnerByIdIn(joinedProjectIds)) {
+                projects.put(project.getId(), project);
+            }
+            tasks.addAll(taskRepository.findWithAssigneeByProjectIdIn(joinedProjectIds));
+            members.addAll(projectMemberRepository.findWithUserByProjectIdIn(joinedProjectIds));
+        }
+
+        addProjects(response, new ArrayList<>(projects.values()));
+        addTasks(response, tasks);
+        addMembers(response, members);
+        return response;
+    }
+
+    // A user's own removal is reported as the project disappearing, which is what their client has to apply.
+    private SyncTombstone toTombstone(DeletionLog entry, Long currentUserId) {
+        if (DeletionLog.TYPE_MEMBER.equals(entry.getEntityType()) && currentUserId.equals(entry.getUserId())) {
+            return new SyncTombstone(DeletionLog.TYPE_PROJECT, entry.getProjectId(), entry.getProjectId(),
+                    entry.getDeletedAt());
+        }
+        return new SyncTombstone(entry.getEntityType(), entry.getEntityId(), entry.getProjectId(),
+                entry.getDeletedAt());
+    }
+
+    private void addProjects(SyncResponse response, List<Project> projects) {
+        response.setProjects(projects.stream().map(ProjectResponse::from).collect(Collectors.toList()));
+    }
+
+    private void addTasks(SyncResponse response, List<Task> tasks) {
+        response.setTasks(tasks.stream().map(TaskResponse::from).collect(Collectors.toList()));
+    }
+
+    private void addMembers(SyncResponse response, List<ProjectMember> members) {
+        response.setMembers(members.stream().map(ProjectMemberResponse::from).collect(Collectors.toList()));
+    }
+}
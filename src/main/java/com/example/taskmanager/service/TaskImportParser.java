@@ -0,0 +1,197 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.model.dto.task.TaskImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Reads one record at a time so an import never holds more than the current chunk. Line numbers are physical
+// lines of the input, so a CSV record with embedded newlines is reported at the line where it starts.
+abstract class TaskImportParser {
+
+    static TaskImportParser ndjson(ObjectMapper objectMapper, Reader reader) {
+        return new Ndjson(objectMapper, reader);
+    }
+
+    static TaskImportParser csv(Reader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    // Returns null at the end of the input. A record that cannot be read is reported as MalformedRowException;
+    // the parser stays usable and continues with the next record.
+    abstract TaskImportRow next() throws IOException;
+
+    static final class MalformedRowException extends RuntimeException {
+
+        private final long line;
+
+        MalformedRowException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+
+        long getLine() {
+            return line;
+        }
+    }
+
+    private static final class Ndjson extends TaskImportParser {
+
+        private final BufferedReader reader;
+        private final ObjectReader rowReader;
+        private long line;
+
+        Ndjson(ObjectMapper objectMapper, Reader reader) {
+            this.reader = new BufferedReader(reader);
+            this.rowReader = objectMapper.readerFor(TaskImportRow.class);
+        }
+
+        @Override
+        TaskImportRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.trim().isEmpty()) {
+                    continue;
+                }
+                TaskImportRow row;
+                try {
+                    row = rowReader.readValue(text);
+                } catch (JsonProcessingException ex) {
+                    throw new MalformedRowException(line, "Malformed JSON: " + ex.getOriginalMessage());
+                }
+                if (row == null) {
+                    throw new MalformedRowException(line, "Expected a JSON object");
+                }
+                row.setLine(line);
+                return row;
+            }
+            return null;
+        }
+    }
+
+    private static final class Csv extends TaskImportParser {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long line = 1;
+
+        Csv(Reader reader) throws IOException {
+            this.reader = new BufferedReader(reader);
+            List<String> header;
+            try {
+                header = readRecord();
+            } catch (MalformedRowException ex) {
+                throw new BadRequestException("CSV header is malformed: " + ex.getMessage());
+            }
+            if (header == null) {
+                throw new BadRequestException("CSV import needs a header row");
+            }
+            // Spreadsheet exports often start with a byte order mark.
+            if (header.get(0).startsWith("\uFEFF")) {
+                header.set(0, header.get(0).substring(1));
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("title")) {
+                throw new BadRequestException("CSV header must include a title column");
+            }
+        }
+
+        @Override
+        TaskImportRow next() throws IOException {
+            while (true) {
+                long start = line;
+                List<String> fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+                if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                    continue;
+                }
+                TaskImportRow row = new TaskImportRow();
+                row.setLine(start);
+                row.setTitle(field(fields, "title"));
+                row.setDescription(field(fields, "description"));
+                row.setStatus(field(fields, "status"));
+                row.setPriority(field(fields, "priority"));
+                row.setAssigneeUsername(field(fields, "assigneeusername"));
+                row.setDueDate(field(fields, "duedate"));
+                return row;
+            }
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        // RFC 4180 with either line ending. Returns null when the input is exhausted.
+        private List<String> readRecord() throws IOException {
+            long start = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStart = true;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && fieldStart) {
+                    quoted = true;
+                    fieldStart = false;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStart = true;
+                } else if (c == '\n') {
+                    line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                    fieldStart = false;
+                }
+            }
+            if (quoted) {
+                throw new MalformedRowException(start, "Unterminated quoted field");
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
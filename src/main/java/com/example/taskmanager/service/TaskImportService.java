@@ -0,0 +1,96 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.dto.task.TaskImportError;
+import com.example.taskmanager.model.dto.task.TaskImportResult;
+import com.example.taskmanager.model.dto.task.TaskImportRow;
+import com.example.taskmanager.model.event.ImportProgressEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// Streams an import file into the project chunk by chunk. Each chunk is its own write (and transaction), so
+// a failure part way leaves the earlier chunks in place; the result and progress events say how far it got.
+@Service
+public class TaskImportService {
+
+    private final TaskService taskService;
+    private final WriteQueue writeQueue;
+    private final RealtimePublisher realtimePublisher;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public TaskImportService(TaskService taskService,
+            WriteQueue writeQueue,
+            RealtimePublisher realtimePublisher,
+            ObjectMapper objectMapper,
+            @Value("${taskmanager.import.chunk-size:500}") int chunkSize) {
+        this.taskService = taskService;
+        this.writeQueue = writeQueue;
+        this.realtimePublisher = realtimePublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public TaskImportResult importTasks(Long currentUserId, Long projectId, boolean csv, Reader reader)
+            throws IOException {
+        TaskImportParser parser = csv
+                ? TaskImportParser.csv(reader)
+                : TaskImportParser.ndjson(objectMapper, reader);
+
+        TaskImportResult total = new TaskImportResult();
+        List<TaskImportRow> chunk = new ArrayList<>(chunkSize);
+        boolean anyChunk = false;
+        while (true) {
+            TaskImportRow row;
+            try {
+                row = parser.next();
+            } catch (TaskImportParser.MalformedRowException ex) {
+                total.addError(ex.getLine(), ex.getMessage());
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importChunk(currentUserId, projectId, chunk, total);
+                chunk = new ArrayList<>(chunkSize);
+                anyChunk = true;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(currentUserId, projectId, chunk, total);
+            anyChunk = true;
+        }
+        // Each chunk checks access in its write transaction. Checking up front in a read-only one would pin the
+        // request's open-in-view session to a reader connection, so only an import without chunks does it here.
+        if (!anyChunk) {
+            taskService.getTaskListRevision(currentUserId, projectId);
+        }
+
+        // Parse errors are recorded as they occur, validation errors when their chunk commits.
+        total.getErrors().sort(Comparator.comparingLong(TaskImportError::getLine));
+
+        if (total.getCreated() > 0) {
+            taskService.publishImportSummary(currentUserId, projectId);
+        }
+        publishProgress("IMPORT_COMPLETED", currentUserId, projectId, total);
+        return total;
+    }
+
+    private void importChunk(Long currentUserId, Long projectId, List<TaskImportRow> chunk, TaskImportResult total) {
+        TaskImportResult result = writeQueue.execute(() -> taskService.importTasks(currentUserId, projectId, chunk));
+        total.merge(result);
+        publishProgress("IMPORT_PROGRESS", currentUserId, projectId, total);
+    }
+
+    private void publishProgress(String type, Long currentUserId, Long projectId, TaskImportResult total) {
+        realtimePublisher.publishImportProgress(new ImportProgressEvent(type, projectId, total.getProcessed(),
+                total.getCreated(), total.getFailed()), currentUserId);
+    }
+}
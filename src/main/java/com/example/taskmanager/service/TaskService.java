@@ -2,20 +2,36 @@ package com.example.taskmanager.service;
 
 import com.example.taskmanager.exception.BadRequestException;
 import com.example.taskmanager.exception.NotFoundException;
+import com.example.taskmanager.model.dto.task.TaskCursor;
+import com.example.taskmanager.model.dto.task.TaskDraft;
+import com.example.taskmanager.model.dto.task.TaskFilter;
+import com.example.taskmanager.model.dto.task.TaskImportResult;
+import com.example.taskmanager.model.dto.task.TaskImportRow;
+import com.example.taskmanager.model.dto.task.TaskPage;
+import com.example.taskmanager.model.dto.task.TaskResponse;
 import com.example.taskmanager.model.entity.Project;
 import com.example.taskmanager.model.entity.Task;
 import com.example.taskmanager.model.entity.User;
 import com.example.taskmanager.model.event.TaskEvent;
-import com.example.taskmanager.repository.ProjectMemberRepository;
 import com.example.taskmanager.repository.ProjectRepository;
 import com.example.taskmanager.repository.TaskRepository;
 import com.example.taskmanager.repository.UserRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,26 +41,33 @@ public class TaskService {
     private static final String STATUS_TODO = "TODO";
     private static final String STATUS_DOING = "DOING";
     private static final String STATUS_DONE = "DONE";
+    private static final int EXPORT_FETCH_SIZE = 500;
     private static final Set<String> ALLOWED_STATUSES = new HashSet<>(Arrays.asList(
             STATUS_TODO, STATUS_DOING, STATUS_DONE
     ));
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
-    private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final MembershipCache membershipCache;
+    private final DeletionLogService deletionLogService;
+    private final ProjectRevisionService projectRevisionService;
+    private final RealtimePublisher realtimePublisher;
 
     public TaskService(TaskRepository taskRepository,
             ProjectRepository projectRepository,
-            ProjectMemberRepository projectMemberRepository,
             UserRepository userRepository,
-            SimpMessagingTemplate messagingTemplate) {
+            MembershipCache membershipCache,
+            DeletionLogService deletionLogService,
+            ProjectRevisionService projectRevisionService,
+            RealtimePublisher realtimePublisher) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
-        this.projectMemberRepository = projectMemberRepository;
         this.userRepository = userRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.membershipCache = membershipCache;
+        this.deletionLogService = deletionLogService;
+        this.projectRevisionService = projectRevisionService;
+        this.realtimePublisher = realtimePublisher;
     }
 
     @Transactional
@@ -73,25 +96,60 @@ public class TaskService {
         task.setDueDate(dueDate);
 
         Task savedTask = taskRepository.save(task);
-        publishTaskEvent("TASK_CREATED", projectId, savedTask.getId(), currentUserId);
+        publishTaskEvent("TASK_CREATED", projectId, savedTask, currentUserId);
         return savedTask;
     }
 
     @Transactional(readOnly = true)
-    public List<Task> getTasksForProject(Long currentUserId, Long projectId, String statusFilter,
-            Long assigneeIdFilter) {
+    public TaskPage getTasksForProject(Long currentUserId, Long projectId, TaskFilter filter, TaskCursor after,
+            int limit) {
         projectRepository.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found"));
 
         ensureProjectMembership(projectId, currentUserId);
 
-        // TODO: apply filtering by statusFilter and assigneeIdFilter
-        return taskRepository.findByProjectId(projectId);
+        if (filter != null && filter.getStatus() != null) {
+            filter.setStatus(sanitizeStatus(filter.getStatus()));
+        }
+        if (filter != null && filter.getPriority() != null) {
+            filter.setPriority(filter.getPriority().trim().toUpperCase());
+        }
+
+        long revision = projectRevisionService.current(projectId);
+
+        // Fetch one extra row to learn whether another page exists without a count query.
+        List<Task> tasks = taskRepository.findPage(projectId, filter, after, limit + 1);
+        if (tasks.size() <= limit) {
+            return new TaskPage(tasks, null, revision);
+        }
+        List<Task> page = tasks.subList(0, limit);
+        return new TaskPage(page, TaskCursor.after(page.get(limit - 1)), revision);
+    }
+
+    // The checks of getTasksForProject without the list query, so an unchanged list can be answered with a 304.
+    @Transactional(readOnly = true)
+    public long getTaskListRevision(Long currentUserId, Long projectId) {
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+
+        ensureProjectMembership(projectId, currentUserId);
+        return projectRevisionService.current(projectId);
+    }
+
+    // Streams every task of the project in id order without holding them all in memory. The sink runs inside the
+    // read transaction, so it should write straight to the response rather than collect.
+    @Transactional(readOnly = true)
+    public void exportTasks(Long currentUserId, Long projectId, Consumer<TaskResponse> sink) {
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+
+        ensureProjectMembership(projectId, currentUserId);
+        taskRepository.forEachInProject(projectId, EXPORT_FETCH_SIZE, task -> sink.accept(TaskResponse.from(task)));
     }
 
     @Transactional(readOnly = true)
     public Task getTaskById(Long currentUserId, Long taskId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAssigneeById(taskId)
                 .orElseThrow(() -> new NotFoundException("Task not found"));
 
         ensureProjectMembership(task.getProject().getId(), currentUserId);
@@ -101,7 +159,7 @@ public class TaskService {
     @Transactional
     public Task updateTask(Long currentUserId, Long taskId, String title, String description, String status,
             String priority, Long assigneeId, LocalDateTime dueDate) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAssigneeById(taskId)
                 .orElseThrow(() -> new NotFoundException("Task not found"));
 
         ensureProjectMembership(task.getProject().getId(), currentUserId);
@@ -111,6 +169,279 @@ public class TaskService {
             assignee = loadAndValidateAssignee(task.getProject().getId(), assigneeId);
         }
 
+        applyChanges(task, title, description, status, priority, assignee, dueDate);
+
+        Task updated = taskRepository.save(task);
+        publishTaskEvent("TASK_UPDATED", task.getProject().getId(), updated, currentUserId);
+        return updated;
+    }
+
+    @Transactional
+    public void deleteTask(Long currentUserId, Long taskId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+        Long projectId = task.getProject().getId();
+        ensureProjectMembership(projectId, currentUserId);
+        taskRepository.delete(task);
+        deletionLogService.recordTaskDeleted(projectId, taskId);
+        publishTaskEvent("TASK_DELETED", projectId, task.getId(), null, currentUserId);
+    }
+
+    @Transactional
+    public List<Task> createTasks(Long currentUserId, Long projectId, List<TaskDraft> drafts) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+
+        ensureProjectMembership(projectId, currentUserId);
+        Map<Long, User> assignees = loadAssignees(drafts);
+
+        List<Task> tasks = new ArrayList<>(drafts.size());
+        for (TaskDraft draft : drafts) {
+            User assignee = null;
+            if (draft.getAssigneeId() != null) {
+                assignee = validateAssignee(projectId, assignees.get(draft.getAssigneeId()));
+            }
+            Task task = new Task();
+            task.setProject(project);
+            task.setTitle(draft.getTitle());
+            task.setDescription(draft.getDescription());
+            task.setStatus(sanitizeStatus(draft.getStatus()));
+            task.setPriority(draft.getPriority());
+            task.setAssignee(assignee);
+            task.setDueDate(draft.getDueDate());
+            tasks.add(task);
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        publishBatchEvent(projectId, saved, Collections.emptyList(), currentUserId);
+        return saved;
+    }
+
+    // One chunk of a streaming import. Invalid rows are reported in the result and skipped rather than failing the
+    // chunk. The revision advances so ETags stay correct, but nothing is broadcast until publishImportSummary.
+    @Transactional
+    public TaskImportResult importTasks(Long currentUserId, Long projectId, List<TaskImportRow> rows) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+
+        ensureProjectMembership(projectId, currentUserId);
+        Map<String, User> assignees = loadAssigneesByUsername(rows);
+
+        TaskImportResult result = new TaskImportResult();
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (TaskImportRow row : rows) {
+            try {
+                tasks.add(toImportedTask(project, row, assignees));
+            } catch (BadRequestException ex) {
+                result.addError(row.getLine(), ex.getMessage());
+            }
+        }
+        if (!tasks.isEmpty()) {
+            taskRepository.saveAll(tasks);
+            // next() flushes the inserts. With open-in-view the request's persistence context outlives this
+            // transaction, so the rows are detached to keep a long import from accumulating them.
+            projectRevisionService.next(projectId);
+            taskRepository.detachAll(tasks);
+        }
+        result.addCreated(tasks.size());
+        return result;
+    }
+
+    // Imported chunks advance the revision silently, so the summary arrives as a version gap and clients reload
+    // the list once instead of patching thousands of rows.
+    @Transactional(readOnly = true)
+    public void publishImportSummary(Long currentUserId, Long projectId) {
+        realtimePublisher.publishTaskEvent(new TaskEvent("TASKS_IMPORTED", projectId, null, currentUserId,
+                projectRevisionService.current(projectId), null));
+    }
+
+    @Transactional
+    public List<Task> updateTasks(Long currentUserId, List<TaskDraft> drafts) {
+        List<Long> ids = drafts.stream().map(TaskDraft::getId).collect(Collectors.toList());
+        Map<Long, Task> tasksById = loadTasks(ids);
+        Map<Long, User> assignees = loadAssignees(drafts);
+
+        Map<Long, List<Task>> updatedByProject = new LinkedHashMap<>();
+        List<Task> updated = new ArrayList<>(drafts.size());
+        for (TaskDraft draft : drafts) {
+            Task task = tasksById.get(draft.getId());
+            Long projectId = task.getProject().getId();
+            if (!updatedByProject.containsKey(projectId)) {
+                ensureProjectMembership(projectId, currentUserId);
+                updatedByProject.put(projectId, new ArrayList<>());
+            }
+            User assignee = null;
+            if (draft.getAssigneeId() != null) {
+                assignee = validateAssignee(projectId, assignees.get(draft.getAssigneeId()));
+            }
+            applyChanges(task, draft.getTitle(), draft.getDescription(), draft.getStatus(), draft.getPriority(),
+                    assignee, draft.getDueDate());
+            updatedByProject.get(projectId).add(task);
+            updated.add(task);
+        }
+
+        for (Map.Entry<Long, List<Task>> entry : updatedByProject.entrySet()) {
+            publishBatchEvent(entry.getKey(), entry.getValue(), Collections.emptyList(), currentUserId);
+        }
+        return updated;
+    }
+
+    @Transactional
+    public void deleteTasks(Long currentUserId, List<Long> taskIds) {
+        Map<Long, Task> tasksById = loadTasks(taskIds);
+
+        Map<Long, List<Long>> deletedByProject = new LinkedHashMap<>();
+        for (Task task : tasksById.values()) {
+            Long projectId = task.getProject().getId();
+            if (!deletedByProject.containsKey(projectId)) {
+                ensureProjectMembership(projectId, currentUserId);
+                deletedByProject.put(projectId, new ArrayList<>());
+            }
+            deletedByProject.get(projectId).add(task.getId());
+        }
+
+        taskRepository.deleteAll(tasksById.values());
+        for (Map.Entry<Long, List<Long>> entry : deletedByProject.entrySet()) {
+            deletionLogService.recordTasksDeleted(entry.getKey(), entry.getValue());
+            publishBatchEvent(entry.getKey(), Collections.emptyList(), entry.getValue(), currentUserId);
+        }
+    }
+
+    // With a null lower bound every task with stale flags is a candidate; otherwise only those whose due date
+    // crossed a threshold in [from, now). Candidates come in id order after afterId, and the flags are computed
+    // against the same now as the query. Returns the number of candidates and the last id so callers can page on.
+    @Transactional
+    public DueFlagRefresh refreshDueFlags(LocalDateTime from, LocalDateTime now, long afterId, int limit) {
+        Duration window = Task.getReminderWindow();
+        PageRequest page = PageRequest.of(0, limit);
+        List<Task> candidates = from == null
+                ? taskRepository.findStaleDueFlags(now, now.plus(window), afterId, page)
+                : taskRepository.findCrossingDueThresholds(from, now, from.plus(window), now.plus(window), afterId,
+                        page);
+
+        Map<Long, List<Task>> changedByProject = new LinkedHashMap<>();
+        for (Task task : candidates) {
+            if (task.refreshDerivedFlags(now)) {
+                changedByProject.computeIfAbsent(task.getProject().getId(), id -> new ArrayList<>()).add(task);
+            }
+        }
+        for (Map.Entry<Long, List<Task>> entry : changedByProject.entrySet()) {
+            publishBatchEvent(entry.getKey(), entry.getValue(), Collections.emptyList(), null);
+        }
+        long lastId = candidates.isEmpty() ? afterId : candidates.get(candidates.size() - 1).getId();
+        return new DueFlagRefresh(candidates.size(), lastId);
+    }
+
+    private Map<Long, Task> loadTasks(Collection<Long> taskIds) {
+        Map<Long, Task> tasksById = new LinkedHashMap<>();
+        for (Task task : taskRepository.findAllWithAssigneeByIdIn(new HashSet<>(taskIds))) {
+            tasksById.put(task.getId(), task);
+        }
+        for (Long taskId : taskIds) {
+            if (!tasksById.containsKey(taskId)) {
+                throw new NotFoundException("Task not found: " + taskId);
+            }
+        }
+        return tasksById;
+    }
+
+    private Map<Long, User> loadAssignees(List<TaskDraft> drafts) {
+        Set<Long> assigneeIds = new HashSet<>();
+        for (TaskDraft draft : drafts) {
+            if (draft.getAssigneeId() != null) {
+                assigneeIds.add(draft.getAssigneeId());
+            }
+        }
+        Map<Long, User> assignees = new HashMap<>();
+        if (!assigneeIds.isEmpty()) {
+            for (User user : userRepository.findAllById(assigneeIds)) {
+                assignees.put(user.getId(), user);
+            }
+        }
+        return assignees;
+    }
+
+    private Map<String, User> loadAssigneesByUsername(List<TaskImportRow> rows) {
+        Set<String> usernames = new HashSet<>();
+        for (TaskImportRow row : rows) {
+            String username = trimToNull(row.getAssigneeUsername());
+            if (username != null) {
+                usernames.add(username);
+            }
+        }
+        Map<String, User> assignees = new HashMap<>();
+        if (!usernames.isEmpty()) {
+            for (User user : userRepository.findByUsernameIn(usernames)) {
+                assignees.put(user.getUsername(), user);
+            }
+        }
+        return assignees;
+    }
+
+    // Mirrors the constraints on CreateTaskRequest, which the import bypasses.
+    private Task toImportedTask(Project project, TaskImportRow row, Map<String, User> assignees) {
+        String title = trimToNull(row.getTitle());
+        if (title == null) {
+            throw new BadRequestException("title is required");
+        }
+        if (title.length() > 150) {
+            throw new BadRequestException("title must be at most 150 characters");
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 1000) {
+            throw new BadRequestException("description must be at most 1000 characters");
+        }
+        String priority = trimToNull(row.getPriority());
+        if (priority != null && priority.length() > 20) {
+            throw new BadRequestException("priority must be at most 20 characters");
+        }
+
+        User assignee = null;
+        String username = trimToNull(row.getAssigneeUsername());
+        if (username != null) {
+            assignee = assignees.get(username);
+            if (assignee == null) {
+                throw new BadRequestException("Unknown assignee: " + username);
+            }
+            validateAssignee(project.getId(), assignee);
+        }
+
+        LocalDateTime dueDate = null;
+        String rawDueDate = trimToNull(row.getDueDate());
+        if (rawDueDate != null) {
+            try {
+                dueDate = LocalDateTime.parse(rawDueDate);
+            } catch (DateTimeParseException ex) {
+                throw new BadRequestException("Invalid dueDate format. Expected ISO-8601 LocalDateTime");
+            }
+        }
+
+        Task task = new Task();
+        task.setProject(project);
+        task.setTitle(title);
+        task.setDescription(row.getDescription());
+        task.setStatus(sanitizeStatus(row.getStatus()));
+        task.setPriority(priority);
+        task.setAssignee(assignee);
+        task.setDueDate(dueDate);
+        return task;
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    private User validateAssignee(Long projectId, User assignee) {
+        if (assignee == null) {
+            throw new NotFoundException("Assignee user not found");
+        }
+        if (!membershipCache.isMember(projectId, assignee.getId())) {
+            throw new BadRequestException("Assignee must be a member of the project");
+        }
+        return assignee;
+    }
+
+    private void applyChanges(Task task, String title, String description, String status, String priority,
+            User assignee, LocalDateTime dueDate) {
         if (title != null) {
             task.setTitle(title);
         }
@@ -123,44 +454,32 @@ public class TaskService {
         if (priority != null) {
             task.setPriority(priority);
         }
-        if (assigneeId != null) {
+        if (assignee != null) {
             task.setAssignee(assignee);
         }
         if (dueDate != null) {
             task.setDueDate(dueDate);
         }
-
-        Task updated = taskRepository.save(task);
-        publishTaskEvent("TASK_UPDATED", task.getProject().getId(), task.getId(), currentUserId);
-        return updated;
-    }
-
-    @Transactional
-    public void deleteTask(Long currentUserId, Long taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new NotFoundException("Task not found"));
-        Long projectId = task.getProject().getId();
-        ensureProjectMembership(projectId, currentUserId);
-        taskRepository.delete(task);
-        publishTaskEvent("TASK_DELETED", projectId, task.getId(), currentUserId);
     }
 
     private void ensureProjectMembership(Long projectId, Long userId) {
-        projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new BadRequestException("User is not a member of this project"));
+        if (!membershipCache.isMember(projectId, userId)) {
+            throw new BadRequestException("User is not a member of this project");
+        }
     }
 
     private User loadAndValidateAssignee(Long projectId, Long assigneeId) {
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new NotFoundException("Assignee user not found"));
 
-        projectMemberRepository.findByProjectIdAndUserId(projectId, assigneeId)
-                .orElseThrow(() -> new BadRequestException("Assignee must be a member of the project"));
+        if (!membershipCache.isMember(projectId, assigneeId)) {
+            throw new BadRequestException("Assignee must be a member of the project");
+        }
 
         return assignee;
     }
 
-    private String sanitizeStatus(String status) {
+    static String sanitizeStatus(String status) {
         if (status == null || status.trim().isEmpty()) {
             return STATUS_TODO;
         }
@@ -171,9 +490,45 @@ public class TaskService {
         return upper;
     }
 
-    private void publishTaskEvent(String type, Long projectId, Long taskId, Long triggeredBy) {
-        if (messagingTemplate != null) {
-            messagingTemplate.convertAndSend("/topic/tasks", new TaskEvent(type, projectId, taskId, triggeredBy));
+    private void publishTaskEvent(String type, Long projectId, Task task, Long triggeredBy) {
+        // Flush so the snapshot carries the timestamps and derived flags set by the entity callbacks.
+        taskRepository.flush();
+        publishTaskEvent(type, projectId, task.getId(), TaskResponse.from(task), triggeredBy);
+    }
+
+    // A batch advances the project revision once and goes out as one event, so clients patch it in a single step.
+    private void publishBatchEvent(Long projectId, List<Task> upserted, List<Long> deletedTaskIds, Long triggeredBy) {
+        taskRepository.flush();
+        List<TaskResponse> snapshots = upserted.stream().map(TaskResponse::from).collect(Collectors.toList());
+        TaskEvent event = new TaskEvent("TASKS_BATCH", projectId, null, triggeredBy,
+                projectRevisionService.next(projectId), null);
+        event.setTasks(snapshots);
+        event.setDeletedTaskIds(deletedTaskIds);
+        realtimePublisher.publishTaskEvent(event);
+    }
+
+    private void publishTaskEvent(String type, Long projectId, Long taskId, TaskResponse snapshot,
+            Long triggeredBy) {
+        long version = projectRevisionService.next(projectId);
+        realtimePublisher.publishTaskEvent(new TaskEvent(type, projectId, taskId, triggeredBy, version, snapshot));
+    }
+
+    public static final class DueFlagRefresh {
+
+        private final int scanned;
+        private final long lastId;
+
+        DueFlagRefresh(int scanned, long lastId) {
+            this.scanned = scanned;
+            this.lastId = lastId;
+        }
+
+        public int getScanned() {
+            return scanned;
+        }
+
+        public long getLastId() {
+            return lastId;
         }
     }
 }
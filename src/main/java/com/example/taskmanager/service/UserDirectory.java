@@ -0,0 +1,101 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.entity.User;
+import com.example.taskmanager.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import javax.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Sorted in-memory index of lower-cased usernames and emails, so a prefix lookup is a range scan that stops
+// after the first k hits instead of a table scan. Users are only ever added, which keeps the index append-only.
+@Component
+public class UserDirectory {
+
+    // Appended to each key so that a username equal to someone else's email prefix does not collide.
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final UserRepository userRepository;
+    private final NavigableMap<String, Entry> index = new ConcurrentSkipListMap<>();
+
+    public UserDirectory(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    void load() {
+        for (User user : userRepository.findAll()) {
+            put(user);
+        }
+    }
+
+    public List<Entry> search(String prefix, int limit) {
+        String from = normalize(prefix);
+        Map<Long, Entry> matches = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> hit : index.tailMap(from, true).entrySet()) {
+            if (!hit.getKey().startsWith(from) || matches.size() >= limit) {
+                break;
+            }
+            matches.putIfAbsent(hit.getValue().getId(), hit.getValue());
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    // Registration rolls back on a uniqueness clash, so the entry is only published once the row is committed.
+    public void add(User user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(user);
+            }
+        });
+    }
+
+    private void put(User user) {
+        Entry entry = new Entry(user.getId(), user.getUsername(), user.getEmail());
+        index.put(normalize(user.getUsername()) + KEY_SEPARATOR + user.getId(), entry);
+        if (user.getEmail() != null) {
+            index.put(normalize(user.getEmail()) + KEY_SEPARATOR + user.getId(), entry);
+        }
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Entry {
+
+        private final Long id;
+        private final String username;
+        private final String email;
+
+        private Entry(Long id, String username, String email) {
+            this.id = id;
+            this.username = username;
+            this.email = email;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
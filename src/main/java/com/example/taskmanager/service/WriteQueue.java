@@ -0,0 +1,217 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class WriteQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteQueue.class);
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+    private final BlockingQueue<PendingWrite<?>> queue;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+    private final Timer commitTime;
+    private final Counter rejected;
+    private final Counter fallbacks;
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteQueue(PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.write-queue.enabled:false}") boolean enabled,
+            @Value("${taskmanager.write-queue.max-batch-size:64}") int maxBatchSize,
+            @Value("${taskmanager.write-queue.max-latency-millis:2}") long maxLatencyMillis,
+            @Value("${taskmanager.write-queue.capacity:10000}") int capacity) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = DistributionSummary.builder("write.queue.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueWait = meterRegistry.timer("write.queue.wait");
+        this.commitTime = meterRegistry.timer("write.queue.commit");
+        this.rejected = meterRegistry.counter("write.queue.rejected");
+        this.fallbacks = meterRegistry.counter("write.queue.batch.fallbacks");
+        Gauge.builder("write.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "write-queue");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        PendingWrite<?> leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.fail(new ServiceUnavailableException("Server is shutting down"));
+        }
+    }
+
+    // Blocks until the write's batch has committed. Operations must map entities to DTOs themselves,
+    // because the persistence context is closed by the time the caller resumes.
+    public <T> T execute(Supplier<T> operation) {
+        try {
+            return submit(operation).join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        PendingWrite<T> write = new PendingWrite<>(operation);
+        if (!enabled) {
+            // Service methods carry their own transactions, so the disabled path simply runs inline.
+            try {
+                write.run();
+                write.complete();
+            } catch (RuntimeException ex) {
+                write.fail(ex);
+            }
+            return write.future;
+        }
+        if (!running || !queue.offer(write)) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Write queue is full, retry later");
+        }
+        return write.future;
+    }
+
+    private void drain() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long deadline = first.enqueuedAt + maxLatencyNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite<?> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                commit(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failAll(batch, ex);
+                return;
+            } catch (Throwable ex) {
+                log.error("Write queue batch failed", ex);
+                failAll(batch, ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite<?>> batch) {
+        long now = System.nanoTime();
+        for (PendingWrite<?> write : batch) {
+            queueWait.record(now - write.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+        try {
+            commitTime.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                for (PendingWrite<?> write : batch) {
+                    write.run();
+                }
+            }));
+            for (PendingWrite<?> write : batch) {
+                write.complete();
+            }
+        } catch (RuntimeException ex) {
+            // One failing write rolls back the whole group, so replay each write in its own transaction
+            // to give every caller its own outcome.
+            fallbacks.increment();
+            for (PendingWrite<?> write : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write.run());
+                    write.complete();
+                } catch (RuntimeException single) {
+                    write.fail(single);
+                }
+            }
+        }
+    }
+
+    private void failAll(List<PendingWrite<?>> batch, Throwable cause) {
+        for (PendingWrite<?> write : batch) {
+            write.fail(cause);
+        }
+    }
+
+    private static final class PendingWrite<T> {
+
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+        private T result;
+
+        private PendingWrite(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        private void run() {
+            result = operation.get();
+        }
+
+        private void complete() {
+            future.complete(result);
+        }
+
+        private void fail(Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update). Existing databases are baselined at this version.
+CREATE TABLE IF NOT EXISTS users (
+    id integer,
+    created_at datetime not null,
+    email varchar not null,
+    password_hash varchar not null,
+    status varchar,
+    updated_at datetime not null,
+    username varchar not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id integer,
+    created_at datetime not null,
+    description varchar,
+    name varchar not null,
+    updated_at datetime not null,
+    owner_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS project_members (
+    id integer,
+    joined_at datetime not null,
+    role varchar not null,
+    project_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id integer,
+    created_at datetime not null,
+    description varchar,
+    due_date datetime,
+    is_due_soon boolean not null,
+    is_overdue boolean not null,
+    priority varchar,
+    status varchar,
+    title varchar not null,
+    updated_at datetime not null,
+    assignee_id bigint,
+    project_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS project_revisions (
+    project_id bigint not null,
+    revision bigint not null,
+    primary key (project_id)
+);
@@ -0,0 +1,18 @@
+-- Keep the earliest row (the owner's, for owners) if a membership was ever duplicated.
+DELETE FROM project_members
+WHERE id NOT IN (SELECT MIN(id) FROM project_members GROUP BY project_id, user_id);
+
+CREATE UNIQUE INDEX uk_users_username ON users (username);
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+-- Serves findByProjectIdAndUserId on every request and covers findUserIdsByProjectId.
+CREATE UNIQUE INDEX uk_project_members_project_user ON project_members (project_id, user_id);
+-- Covers the membership subquery of findAllVisibleToUser.
+CREATE INDEX idx_project_members_user_project ON project_members (user_id, project_id);
+
+CREATE INDEX idx_projects_owner ON projects (owner_id);
+
+-- Keyset pagination order, optionally narrowed by status.
+CREATE INDEX idx_tasks_project_updated ON tasks (project_id, updated_at DESC, id DESC);
+CREATE INDEX idx_tasks_project_status_updated ON tasks (project_id, status, updated_at DESC, id DESC);
+CREATE INDEX idx_tasks_assignee ON tasks (assignee_id);
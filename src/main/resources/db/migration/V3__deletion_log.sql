@@ -0,0 +1,13 @@
+CREATE TABLE deletion_log (
+    id integer,
+    entity_type varchar not null,
+    entity_id bigint not null,
+    project_id bigint not null,
+    user_id bigint,
+    deleted_at datetime not null,
+    primary key (id)
+);
+
+CREATE INDEX idx_deletion_log_project_deleted ON deletion_log (project_id, deleted_at);
+CREATE INDEX idx_deletion_log_user_deleted ON deletion_log (user_id, deleted_at);
+CREATE INDEX idx_deletion_log_deleted ON deletion_log (deleted_at);
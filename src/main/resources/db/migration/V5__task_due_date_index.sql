@@ -0,0 +1,2 @@
+-- Lets the due-flag job range-scan the tasks whose due date crossed a threshold since its last run.
+CREATE INDEX idx_tasks_due_date ON tasks (due_date) WHERE due_date IS NOT NULL;
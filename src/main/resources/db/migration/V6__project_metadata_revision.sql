@@ -0,0 +1,3 @@
+-- Second per-project counter for what the task revision does not cover: the project's own fields and its
+-- membership. Kept separate so member changes do not look like gaps in the task event stream.
+ALTER TABLE project_revisions ADD COLUMN metadata_revision bigint not null default 0;
@@ -0,0 +1,5 @@
+-- Keyset pagination order narrowed by assignee, like idx_tasks_project_status_updated for status. The
+-- single-column index only made SQLite sort the assignee's rows on every page, and nothing else looks tasks up
+-- by assignee alone.
+CREATE INDEX idx_tasks_project_assignee_updated ON tasks (project_id, assignee_id, updated_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_tasks_assignee;
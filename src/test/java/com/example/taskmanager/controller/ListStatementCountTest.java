@@ -0,0 +1,138 @@
+package com.example.taskmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.taskmanager.model.entity.Project;
+import com.example.taskmanager.model.entity.User;
+import com.example.taskmanager.service.AuthService;
+import com.example.taskmanager.service.ProjectService;
+import com.example.taskmanager.service.TaskService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+// List endpoints must not issue a query per row when mapping responses. Each endpoint is called for a small and a
+// large data set and must prepare the same number of statements. The second-level cache is off so lazy loads it
+// would absorb still show up, and the due-flag scheduler only runs at startup so it cannot add statements mid-test.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "taskmanager.due-flags.refresh-interval-millis=3600000"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListStatementCountTest {
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private World small;
+    private World large;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        Path file = Files.createTempFile("taskmanager-test", ".db");
+        file.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + file);
+    }
+
+    @BeforeAll
+    void createData() {
+        small = createWorld("small", SMALL);
+        large = createWorld("large", LARGE);
+    }
+
+    @Test
+    void taskListStatementCountDoesNotGrowWithTasks() throws Exception {
+        assertEquals(statements("/api/projects/" + small.projectId + "/tasks", small.viewerId),
+                statements("/api/projects/" + large.projectId + "/tasks", large.viewerId));
+    }
+
+    @Test
+    void memberListStatementCountDoesNotGrowWithMembers() throws Exception {
+        assertEquals(statements("/api/projects/" + small.projectId + "/members", small.viewerId),
+                statements("/api/projects/" + large.projectId + "/members", large.viewerId));
+    }
+
+    @Test
+    void projectListStatementCountDoesNotGrowWithProjects() throws Exception {
+        assertEquals(statements("/api/projects", small.viewerId),
+                statements("/api/projects", large.viewerId));
+    }
+
+    // The first call warms the membership cache and Spring's lazy infrastructure; only the second is counted.
+    private long statements(String url, long userId) throws Exception {
+        mockMvc.perform(get(url).header("X-USER-ID", userId)).andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(url).header("X-USER-ID", userId)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    // The viewer belongs to n projects, each owned by a different user. The first of them has all n owners as
+    // members and n tasks, each assigned to a different member, so every row points at a distinct user.
+    private World createWorld(String prefix, int n) {
+        User viewer = register(prefix + "viewer");
+        User[] owners = new User[n];
+        Project[] projects = new Project[n];
+        for (int i = 0; i < n; i++) {
+            owners[i] = register(prefix + "owner" + i);
+            projects[i] = projectService.createProject(owners[i].getId(), prefix + " project " + i, "description");
+            projectService.addMember(owners[i].getId(), projects[i].getId(), viewer.getUsername());
+        }
+        Long projectId = projects[0].getId();
+        for (int i = 1; i < n; i++) {
+            projectService.addMember(owners[0].getId(), projectId, owners[i].getUsername());
+        }
+        for (int i = 0; i < n; i++) {
+            taskService.createTask(owners[0].getId(), projectId, prefix + " task " + i, null, "TODO", "HIGH",
+                    owners[i].getId(), null);
+        }
+        return new World(viewer.getId(), projectId);
+    }
+
+    private User register(String username) {
+        return authService.register(username, username + "@example.com", "secret1");
+    }
+
+    private static final class World {
+
+        private final long viewerId;
+        private final long projectId;
+
+        World(long viewerId, long projectId) {
+            this.viewerId = viewerId;
+            this.projectId = projectId;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.taskmanager.desktop;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import org.junit.jupiter.api.Test;
+
+// Every test replays the fired events onto a copy of the previous contents, the way JList's UI tracks the model,
+// and checks that the copy matches the model after each event and the target at the end.
+class KeyedListModelTest {
+
+    @Test
+    void unchangedSnapshotFiresNothingButSwapsInFreshInstances() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1"));
+        List<Item> target = items("a1", "b1", "c1");
+
+        fixture.setAll(target);
+
+        assertTrue(fixture.events.isEmpty());
+        for (int i = 0; i < target.size(); i++) {
+            assertSame(target.get(i), fixture.model.get(i));
+        }
+    }
+
+    @Test
+    void contentChangeFiresOneChangedEventForTheRow() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1", "d1"));
+
+        fixture.setAll(items("a1", "b2", "c2", "d1"));
+
+        assertEquals(Collections.singletonList("changed 1-2"), fixture.events);
+    }
+
+    @Test
+    void removalFiresOneRemovedEventPerRun() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1", "d1", "e1", "f1", "g1"));
+
+        fixture.setAll(items("a1", "d1", "e1", "f1", "g1"));
+
+        assertEquals(Collections.singletonList("removed 1-2"), fixture.events);
+    }
+
+    @Test
+    void insertionFiresOneAddedEventPerRun() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1", "d1"));
+
+        fixture.setAll(items("x1", "a1", "b1", "y1", "z1", "c1", "d1"));
+
+        assertEquals(Arrays.asList("added 0-0", "added 3-4"), fixture.events);
+    }
+
+    @Test
+    void moveKeepsTheLongestOrderedRunInPlace() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1", "d1", "e1", "f1"));
+
+        fixture.setAll(items("e2", "a1", "b1", "c1", "d1", "f1"));
+
+        assertEquals(Arrays.asList("removed 4-4", "added 0-0"), fixture.events);
+    }
+
+    @Test
+    void duplicateKeysFallBackToReset() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1"));
+
+        fixture.setAll(items("a1", "b1", "b2", "c1"));
+
+        assertEquals(Arrays.asList("removed 0-2", "added 0-3"), fixture.events);
+    }
+
+    @Test
+    void editsOnMoreThanHalfTheRowsFallBackToReset() {
+        Fixture fixture = new Fixture(items("a1", "b1", "c1", "d1"));
+
+        fixture.setAll(items("d1", "c1", "b1", "a1"));
+
+        assertEquals(Arrays.asList("removed 0-3", "added 0-3"), fixture.events);
+    }
+
+    @Test
+    void emptyToFullAndBack() {
+        Fixture fixture = new Fixture(Collections.<Item>emptyList());
+
+        fixture.setAll(items("a1", "b1"));
+        fixture.setAll(Collections.<Item>emptyList());
+
+        assertEquals(Arrays.asList("added 0-1", "removed 0-1"), fixture.events);
+    }
+
+    @Test
+    void randomSnapshotsAreReplayedExactly() {
+        Random random = new Random(42);
+        for (int round = 0; round < 2000; round++) {
+            List<Item> before = new ArrayList<>();
+            List<Integer> ids = new ArrayList<>();
+            for (int id = 0; id < 60; id++) {
+                ids.add(id);
+            }
+            Collections.shuffle(ids, random);
+            int size = random.nextInt(30);
+            for (int i = 0; i < size; i++) {
+                before.add(new Item(ids.get(i), 0));
+            }
+            Fixture fixture = new Fixture(before);
+
+            List<Item> target = new ArrayList<>();
+            for (Item item : before) {
+                if (random.nextInt(10) > 0) {
+                    target.add(new Item(item.id, random.nextInt(8) == 0 ? 1 : 0));
+                }
+            }
+            int moves = random.nextInt(4);
+            for (int m = 0; m < moves && target.size() > 1; m++) {
+                Item moved = target.remove(random.nextInt(target.size()));
+                target.add(random.nextInt(target.size() + 1), moved);
+            }
+            int inserts = random.nextInt(4);
+            for (int i = size; i < size + inserts; i++) {
+                target.add(random.nextInt(target.size() + 1), new Item(ids.get(i), 0));
+            }
+
+            fixture.setAll(target);
+        }
+    }
+
+    @Test
+    void longestIncreasingSubsequenceSkipsRemovedRows() {
+        boolean[] stays = KeyedListModel.longestIncreasingSubsequence(new int[] {3, -1, 0, 1, 5, 2, -1, 4});
+
+        assertArrayEquals(new boolean[] {false, false, true, true, false, true, false, true}, stays);
+    }
+
+    private static List<Item> items(String... specs) {
+        List<Item> items = new ArrayList<>();
+        for (String spec : specs) {
+            items.add(new Item(spec.charAt(0), spec.charAt(1) - '0'));
+        }
+        return items;
+    }
+
+    private static final class Item {
+
+        private final int id;
+        private final int version;
+
+        Item(int id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+
+        boolean sameAs(Item other) {
+            return id == other.id && version == other.version;
+        }
+    }
+
+    private static final class Fixture implements ListDataListener {
+
+        private final KeyedListModel<Integer, Item> model =
+                new KeyedListModel<>(item -> item.id, (a, b) -> a.version == b.version);
+        private final List<Item> replica;
+        private final List<String> events = new ArrayList<>();
+
+        Fixture(List<Item> initial) {
+            model.setAll(initial);
+            replica = new ArrayList<>(initial);
+            model.addListDataListener(this);
+        }
+
+        void setAll(List<Item> target) {
+            model.setAll(target);
+            assertEquals(target.size(), model.size());
+            assertEquals(target.size(), replica.size());
+            for (int i = 0; i < target.size(); i++) {
+                assertSame(target.get(i), model.get(i));
+                assertTrue(replica.get(i).sameAs(target.get(i)), "row " + i + " after replaying the events");
+            }
+        }
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                replica.add(i, model.get(i));
+            }
+            assertMatchesModel();
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            replica.subList(e.getIndex0(), e.getIndex1() + 1).clear();
+            assertMatchesModel();
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+            for (int i = e.getIndex0(); i <= e.getIndex1(); i++) {
+                replica.set(i, model.get(i));
+            }
+            assertMatchesModel();
+        }
+
+        // Between events a row may still be the old instance of the same content, so only the ids are compared.
+        private void assertMatchesModel() {
+            assertEquals(model.size(), replica.size());
+            for (int i = 0; i < replica.size(); i++) {
+                assertEquals(model.get(i).id, replica.get(i).id, "row " + i + " after an event");
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.taskmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.model.dto.task.TaskImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class TaskImportParserTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void csvReadsQuotedCommasNewlinesAndEscapedQuotes() throws IOException {
+        TaskImportParser parser = csv("title,description\r\n"
+                + "\"Plan, then build\",\"first line\r\nsecond \"\"quoted\"\" line\"\r\n"
+                + "Ship,done\r\n");
+
+        TaskImportRow first = parser.next();
+        assertEquals("Plan, then build", first.getTitle());
+        assertEquals("first line\r\nsecond \"quoted\" line", first.getDescription());
+        assertEquals(2, first.getLine());
+
+        // The previous record spanned two physical lines.
+        TaskImportRow second = parser.next();
+        assertEquals("Ship", second.getTitle());
+        assertEquals("done", second.getDescription());
+        assertEquals(4, second.getLine());
+
+        assertNull(parser.next());
+    }
+
+    @Test
+    void csvMapsColumnsByHeaderIgnoringCaseOrderAndByteOrderMark() throws IOException {
+        TaskImportParser parser = csv("\uFEFFStatus, Title ,assigneeUsername,id,dueDate\n"
+                + "DOING,Review,bob,42,2030-01-01T10:00:00\n");
+
+        TaskImportRow row = parser.next();
+        assertEquals("Review", row.getTitle());
+        assertEquals("DOING", row.getStatus());
+        assertEquals("bob", row.getAssigneeUsername());
+        assertEquals("2030-01-01T10:00:00", row.getDueDate());
+        assertNull(row.getDescription());
+        assertNull(row.getPriority());
+        assertNull(parser.next());
+    }
+
+    @Test
+    void csvSkipsBlankLinesAndTreatsEmptyAndMissingFieldsAsNull() throws IOException {
+        TaskImportParser parser = csv("title,description,priority\n"
+                + "\n"
+                + "First,,HIGH\n"
+                + "\r\n"
+                + "Second\n");
+
+        TaskImportRow first = parser.next();
+        assertEquals("First", first.getTitle());
+        assertNull(first.getDescription());
+        assertEquals("HIGH", first.getPriority());
+        assertEquals(3, first.getLine());
+
+        TaskImportRow second = parser.next();
+        assertEquals("Second", second.getTitle());
+        assertNull(second.getPriority());
+        assertEquals(5, second.getLine());
+
+        assertNull(parser.next());
+    }
+
+    @Test
+    void csvReadsLastRecordWithoutTrailingNewline() throws IOException {
+        TaskImportParser parser = csv("title\nOnly");
+
+        assertEquals("Only", parser.next().getTitle());
+        assertNull(parser.next());
+    }
+
+    @Test
+    void csvReportsUnterminatedQuoteAtItsStartingLine() throws IOException {
+        TaskImportParser parser = csv("title,description\n"
+                + "Fine,ok\n"
+                + "Broken,\"never\nclosed\n");
+
+        assertEquals("Fine", parser.next().getTitle());
+        TaskImportParser.MalformedRowException ex =
+                assertThrows(TaskImportParser.MalformedRowException.class, parser::next);
+        assertEquals(3, ex.getLine());
+        assertNull(parser.next());
+    }
+
+    @Test
+    void csvRejectsMissingOrInvalidHeader() {
+        assertThrows(BadRequestException.class, () -> csv(""));
+        assertThrows(BadRequestException.class, () -> csv("name,description\nTask,text\n"));
+        assertThrows(BadRequestException.class, () -> csv("\"title\n"));
+    }
+
+    @Test
+    void ndjsonSkipsBlankLinesAndNumbersRowsByPhysicalLine() throws IOException {
+        TaskImportParser parser = ndjson("{\"title\":\"One\",\"id\":7}\r\n"
+                + "\n"
+                + "   \n"
+                + "{\"title\":\"Two\",\"priority\":\"LOW\"}");
+
+        TaskImportRow first = parser.next();
+        assertEquals("One", first.getTitle());
+        assertEquals(1, first.getLine());
+
+        TaskImportRow second = parser.next();
+        assertEquals("Two", second.getTitle());
+        assertEquals("LOW", second.getPriority());
+        assertEquals(4, second.getLine());
+
+        assertNull(parser.next());
+    }
+
+    @Test
+    void ndjsonRecoversAfterMalformedLine() throws IOException {
+        TaskImportParser parser = ndjson("{\"title\":\"Before\"}\n"
+                + "{\"title\": \n"
+                + "null\n"
+                + "{\"title\":\"After\"}\n");
+
+        assertEquals("Before", parser.next().getTitle());
+
+        TaskImportParser.MalformedRowException malformed =
+                assertThrows(TaskImportParser.MalformedRowException.class, parser::next);
+        assertEquals(2, malformed.getLine());
+
+        TaskImportParser.MalformedRowException notAnObject =
+                assertThrows(TaskImportParser.MalformedRowException.class, parser::next);
+        assertEquals(3, notAnObject.getLine());
+
+        TaskImportRow after = parser.next();
+        assertEquals("After", after.getTitle());
+        assertEquals(4, after.getLine());
+        assertNull(parser.next());
+    }
+
+    private TaskImportParser csv(String input) throws IOException {
+        return TaskImportParser.csv(new StringReader(input));
+    }
+
+    private TaskImportParser ndjson(String input) {
+        return TaskImportParser.ndjson(objectMapper, new StringReader(input));
+    }
+}